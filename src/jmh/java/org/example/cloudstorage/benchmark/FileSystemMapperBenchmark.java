@@ -0,0 +1,48 @@
+package org.example.cloudstorage.benchmark;
+
+import io.minio.messages.Item;
+import org.example.cloudstorage.mapper.FileSystemMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileSystemMapperBenchmark {
+
+    @Param({"1000", "100000"})
+    private int itemCount;
+
+    private final FileSystemMapper fileSystemMapper = Mappers.getMapper(FileSystemMapper.class);
+    private List<Item> items;
+
+    @Setup
+    public void setUp() {
+        items = SyntheticItems.create(itemCount);
+    }
+
+    @Benchmark
+    public void itemToDto(Blackhole blackhole) {
+        for (Item item : items) {
+            blackhole.consume(fileSystemMapper.itemToDto(item, "group-0/"));
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.example.cloudstorage.benchmark;
+
+import org.example.cloudstorage.utils.PathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathUtilsBenchmark {
+
+    @Param({"docs/report.txt", "projects/2024/q1/reports/summary/final/report.txt"})
+    private String filePath;
+
+    private String folderPath;
+    private Path parentDirectory;
+
+    @Setup
+    public void setUp() {
+        folderPath = PathUtils.extractParentPath(filePath);
+        parentDirectory = Paths.get(folderPath);
+    }
+
+    @Benchmark
+    public String extractParentPath() {
+        return PathUtils.extractParentPath(filePath);
+    }
+
+    @Benchmark
+    public String extractFileName() {
+        return PathUtils.extractResourceName(filePath, false);
+    }
+
+    @Benchmark
+    public String extractFolderName() {
+        return PathUtils.extractResourceName(folderPath, true);
+    }
+
+    @Benchmark
+    public String convertToRelativePath() {
+        return PathUtils.convertToRelativePath(filePath, parentDirectory);
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.example.cloudstorage.benchmark;
+
+import io.minio.messages.Item;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.service.SearchResultMatcher;
+import org.example.cloudstorage.service.StoragePathService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final int ITEM_COUNT = 100_000;
+
+    @Param({"report", "folder-1", "missing"})
+    private String query;
+
+    private SearchResultMatcher searchResultMatcher;
+    private List<Item> items;
+
+    @Setup
+    public void setUp() {
+        searchResultMatcher = new SearchResultMatcher(new StoragePathService());
+        items = SyntheticItems.create(ITEM_COUNT);
+    }
+
+    @Benchmark
+    public List<ResourceResponseDto> search() {
+        return searchResultMatcher.search(items, SyntheticItems.USER_ID, query);
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.example.cloudstorage.benchmark;
+
+import org.example.cloudstorage.service.StoragePathService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoragePathServiceBenchmark {
+
+    private final StoragePathService storagePathService = new StoragePathService();
+    private final Long userId = SyntheticItems.USER_ID;
+    private final String objectName = SyntheticItems.ROOT_PATH + "projects/2024/q1/reports/summary.txt";
+
+    @Benchmark
+    public String buildRootPath() {
+        return storagePathService.buildRootPath(userId);
+    }
+
+    @Benchmark
+    public String deleteRootPath() {
+        return storagePathService.deleteRootPath(objectName, userId);
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.example.cloudstorage.benchmark;
+
+import io.minio.Xml;
+import io.minio.errors.XmlParserException;
+import io.minio.messages.Item;
+import io.minio.messages.ListBucketResultV2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class SyntheticItems {
+
+    static final long USER_ID = 42L;
+    static final String ROOT_PATH = "user-42-files/";
+
+    private static final int FILES_PER_FOLDER = 50;
+    private static final int FOLDERS_PER_GROUP = 20;
+
+    private SyntheticItems() {
+    }
+
+    static List<Item> create(int count) {
+        StringBuilder xml = new StringBuilder(count * 256)
+                .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>benchmark</Name><Prefix>").append(ROOT_PATH).append("</Prefix>")
+                .append("<KeyCount>").append(count).append("</KeyCount>")
+                .append("<MaxKeys>").append(count).append("</MaxKeys>")
+                .append("<IsTruncated>false</IsTruncated>");
+
+        for (int i = 0; i < count; i++) {
+            xml.append("<Contents><Key>").append(ROOT_PATH).append(objectPath(i)).append("</Key>")
+                    .append("<LastModified>2024-01-01T00:00:00.000Z</LastModified>")
+                    .append("<ETag>\"etag-").append(i).append("\"</ETag>")
+                    .append("<Size>").append(objectPath(i).endsWith("/") ? 0 : 1024 + i % 4096).append("</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        xml.append("</ListBucketResult>");
+
+        try {
+            return new ArrayList<>(Xml.unmarshal(ListBucketResultV2.class, xml.toString()).contents());
+        } catch (XmlParserException e) {
+            throw new IllegalStateException("Failed to build synthetic MinIO listing", e);
+        }
+    }
+
+    static String objectPath(int index) {
+        int folder = index / FILES_PER_FOLDER;
+        String folderPath = "group-" + folder / FOLDERS_PER_GROUP + "/folder-" + folder + "/";
+        if (index % FILES_PER_FOLDER == 0) {
+            return folderPath;
+        }
+        return folderPath + (index % 7 == 0 ? "Report-" : "photo-") + index + (index % 3 == 0 ? ".jpg" : ".txt");
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.example.cloudstorage.benchmark;
+
+import org.example.cloudstorage.model.ArchiveEntry;
+import org.example.cloudstorage.model.ZipCompressionProfile;
+import org.example.cloudstorage.service.ObjectStreamSource;
+import org.example.cloudstorage.service.ZipArchiveService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZipArchiveBenchmark {
+
+    private static final int ENTRY_COUNT = 200;
+    private static final int ENTRY_SIZE = 64 * 1024;
+    private static final int THREAD_COUNT = 8;
+
+    @Param({"DEFAULT", "FAST", "SMALL"})
+    private ZipCompressionProfile profile;
+
+    private ExecutorService executor;
+    private ZipArchiveService zipArchiveService;
+    private List<ArchiveEntry> entries;
+    private ObjectStreamSource source;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        zipArchiveService = new ZipArchiveService(executor, 6, 8, 67108864L, 8388608L);
+
+        Map<String, byte[]> objects = new HashMap<>();
+        entries = new ArrayList<>(ENTRY_COUNT);
+        Random random = new Random(ENTRY_COUNT);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            String name = SyntheticItems.objectPath(i + 1);
+            byte[] content = name.endsWith(".jpg") ? randomBytes(random) : textBytes(i);
+            objects.put(SyntheticItems.ROOT_PATH + name, content);
+            entries.add(new ArchiveEntry(name, SyntheticItems.ROOT_PATH + name, content.length));
+        }
+
+        source = objectPath -> {
+            byte[] content = objects.get(objectPath);
+            if (content == null) {
+                throw new FileNotFoundException(objectPath);
+            }
+            return new ByteArrayInputStream(content);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void buildZipFromItems() throws IOException {
+        zipArchiveService.write(OutputStream.nullOutputStream(), entries, source, profile);
+    }
+
+    private byte[] randomBytes(Random random) {
+        byte[] content = new byte[ENTRY_SIZE];
+        random.nextBytes(content);
+        return content;
+    }
+
+    private byte[] textBytes(int index) {
+        StringBuilder text = new StringBuilder(ENTRY_SIZE);
+        while (text.length() < ENTRY_SIZE) {
+            text.append("Quarterly report line ").append(index).append(" of the synthetic archive\n");
+        }
+        return text.substring(0, ENTRY_SIZE).getBytes(StandardCharsets.US_ASCII);
+    }
+
+}
@@ -1,18 +1,22 @@
 package org.example.cloudstorage.apiDocs;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.example.cloudstorage.dto.ErrorResponseDto;
+import org.example.cloudstorage.dto.fileSystemRequestDto.DirectoryPageRequestDto;
 import org.example.cloudstorage.dto.fileSystemRequestDto.FileSystemPathRequestDto;
+import org.example.cloudstorage.dto.resourceResponseDto.DirectoryPageResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.FolderResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -65,7 +69,101 @@ public interface DirectoryApi {
 
     ResponseEntity<List<ResourceResponseDto>> getDirectory(
             FileSystemPathRequestDto fileSystemDto,
-            UserDetails userDetails);
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
+
+
+    @Operation(
+            summary = "Stream directory contents",
+            description = "Streams the resources of a directory, optionally recursively, as newline-delimited JSON. " +
+                    "Selected with Accept: application/x-ndjson."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    description = "Directory contents streamed, one resource per line",
+                    responseCode = "200",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ResourceResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Invalid or nonexistent path",
+                    responseCode = "400",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "The user is not authorized",
+                    responseCode = "401",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Folder doesn't exists",
+                    responseCode = "404",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+    }
+    )
+    ResponseEntity<StreamingResponseBody> streamDirectory(
+            FileSystemPathRequestDto fileSystemDto,
+            @Parameter(description = "List nested folders recursively") boolean recursive,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
+
+
+    @Operation(
+            summary = "Get a page of directory contents",
+            description = "Returns up to limit resources of the directory, sorted by name, size or type. " +
+                    "Pass nextCursor from the response to get the following page; it is null on the last page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    description = "Successfully get page of folder contents",
+                    responseCode = "200",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = DirectoryPageResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Invalid path, limit or cursor",
+                    responseCode = "400",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "The user is not authorized",
+                    responseCode = "401",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "Folder doesn't exists",
+                    responseCode = "404",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+    }
+    )
+    ResponseEntity<DirectoryPageResponseDto> getDirectoryPage(
+            DirectoryPageRequestDto pageDto,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
 
 
     @Operation(
@@ -118,6 +216,7 @@ public interface DirectoryApi {
     })
     ResponseEntity<FolderResponseDto> createDirectory(
             FileSystemPathRequestDto fileSystemDto,
-            UserDetails userDetails);
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
 
 }
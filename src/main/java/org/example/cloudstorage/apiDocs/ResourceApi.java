@@ -3,11 +3,13 @@ package org.example.cloudstorage.apiDocs;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.example.cloudstorage.dto.ErrorResponseDto;
 import org.example.cloudstorage.dto.fileSystemRequestDto.FileSystemMoveRequestDto;
 import org.example.cloudstorage.dto.fileSystemRequestDto.FileSystemPathRequestDto;
@@ -15,6 +17,7 @@ import org.example.cloudstorage.dto.fileSystemRequestDto.FileSystemSearchRequest
 import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.FolderResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.model.ZipCompressionProfile;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -72,7 +75,8 @@ public interface ResourceApi {
     })
     ResponseEntity<ResourceResponseDto> getResourceInfo(
             FileSystemPathRequestDto fileSystemDto,
-            UserDetails userDetails);
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
 
 
     @Operation(
@@ -111,6 +115,7 @@ public interface ResourceApi {
     })
     ResponseEntity<Void> delete(
             UserDetails userDetails,
+            @Parameter(hidden = true) Long id,
             FileSystemPathRequestDto fileSystemDto);
 
 
@@ -150,6 +155,22 @@ public interface ResourceApi {
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorResponseDto.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "Upload exceeds the maximum allowed size",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "507",
+                    description = "Storage quota exceeded",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
             )
     })
     ResponseEntity<List<ResourceResponseDto>> upload(
@@ -164,11 +185,84 @@ public interface ResourceApi {
             @RequestPart("object")
             MultipartFile[] file,
 
-            UserDetails userDetails
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id
 
     );
 
 
+    @Operation(
+            summary = "Stream files and folders",
+            description = "Upload files and folders to the specified directory without buffering them on the server. " +
+                    "Parts named 'object' are piped straight into storage as they arrive.",
+            parameters = @Parameter(
+                    name = "path",
+                    in = ParameterIn.QUERY,
+                    description = "Path to the target directory for upload"
+            ),
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                            schema = @Schema(type = "string", format = "binary")
+                    )
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Files and folders successfully uploaded",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ResourceResponseDto.class, type = "array")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request body",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "User is not authorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Resource already exists",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "Upload exceeds the maximum allowed size",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "507",
+                    description = "Storage quota exceeded",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    ResponseEntity<List<ResourceResponseDto>> uploadStream(
+            HttpServletRequest request,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
+
+
     @Operation(
             summary = "Download resource",
             description = "Download a file or folder. Files are downloaded as-is, folders are downloaded as ZIP archives."
@@ -182,6 +276,26 @@ public interface ResourceApi {
                             schema = @Schema(type = "string", format = "binary")
                     )
             ),
+            @ApiResponse(
+                    responseCode = "206",
+                    description = "Requested byte range of the file",
+                    content = @Content(
+                            mediaType = "application/octet-stream",
+                            schema = @Schema(type = "string", format = "binary")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "File has not changed since the ETag in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "416",
+                    description = "Requested range is outside of the file"
+            ),
+            @ApiResponse(
+                    responseCode = "302",
+                    description = "Redirect to a short-lived presigned url of the file, when presigned downloads are enabled"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid or missing path",
@@ -205,11 +319,24 @@ public interface ResourceApi {
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorResponseDto.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "File changed between reading its metadata and its content, retry the download",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
             )
     })
     ResponseEntity<StreamingResponseBody> download(
             FileSystemPathRequestDto fileSystemDto,
-            UserDetails userDetails);
+            @Parameter(description = "Single byte range of the file, e.g. bytes=0-1023") String range,
+            @Parameter(description = "ETag the range request is conditional on") String ifRange,
+            @Parameter(description = "ETags already cached by the client") String ifNoneMatch,
+            @Parameter(description = "Zip compression profile for folders: default, fast or small") ZipCompressionProfile compression,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
 
 
     @Operation(
@@ -260,7 +387,8 @@ public interface ResourceApi {
     })
     ResponseEntity<ResourceResponseDto> move(
             FileSystemMoveRequestDto fileMoveDto,
-            UserDetails userDetails);
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
 
 
     @Operation(
@@ -295,6 +423,44 @@ public interface ResourceApi {
     })
     ResponseEntity<List<ResourceResponseDto>> search(
             FileSystemSearchRequestDto dto,
-            UserDetails userDetails);
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
+
+
+    @Operation(
+            summary = "Stream search results",
+            description = "Search files and folders by name and stream the results as newline-delimited JSON " +
+                    "as they are found. Selected with Accept: application/x-ndjson."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search results streamed, one resource per line",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ResourceResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid or missing search query",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "User is not authorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    ResponseEntity<StreamingResponseBody> streamSearch(
+            FileSystemSearchRequestDto dto,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
 
 }
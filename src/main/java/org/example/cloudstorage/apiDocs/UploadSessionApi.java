@@ -0,0 +1,318 @@
+package org.example.cloudstorage.apiDocs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.cloudstorage.dto.ErrorResponseDto;
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadPartResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadPartUrlResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadSessionCreateRequestDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadSessionResponseDto;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.IOException;
+
+@Tag(
+        name = "Upload Sessions",
+        description = "API for resumable uploads - files are sent in numbered parts and assembled on completion"
+)
+public interface UploadSessionApi {
+
+    @Operation(
+            summary = "Start upload session",
+            description = "Creates a resumable upload session for a single file. The returned session id is used for all further requests."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Upload session successfully created",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UploadSessionResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid path or file name",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "The user is not authorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Parent path not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "File with this name already exists",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "507",
+                    description = "Storage quota exceeded",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    ResponseEntity<UploadSessionResponseDto> create(
+            UploadSessionCreateRequestDto dto,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
+
+
+    @Operation(
+            summary = "Upload part",
+            description = "Uploads one part of the file as the raw request body. Parts may be sent in any order and re-sent after a failure."
+    )
+    @RequestBody(
+            description = "Raw bytes of the part",
+            required = true,
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                    schema = @Schema(type = "string", format = "binary")
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Part successfully uploaded",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UploadPartResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid part number or part size",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "The user is not authorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Upload session not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    ResponseEntity<UploadPartResponseDto> uploadPart(
+            @Parameter(description = "Upload session id") String sessionId,
+            @Parameter(description = "Part number from 1 to 10000") int partNumber,
+            @Parameter(hidden = true) HttpServletRequest request,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id) throws IOException;
+
+
+    @Operation(
+            summary = "Get presigned part upload url",
+            description = "Returns a short-lived url the client can PUT the part bytes to directly, bypassing the application. " +
+                    "Part sizes are checked when the session is completed. Call complete once all parts are uploaded."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully presigned part upload url",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UploadPartUrlResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid part number",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "The user is not authorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Upload session not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    ResponseEntity<UploadPartUrlResponseDto> getPartUploadUrl(
+            @Parameter(description = "Upload session id") String sessionId,
+            @Parameter(description = "Part number from 1 to 10000") int partNumber,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
+
+
+    @Operation(
+            summary = "Get uploaded parts",
+            description = "Returns the parts already stored for the session so that an interrupted upload can be resumed."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully get upload session",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UploadSessionResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "The user is not authorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Upload session not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    ResponseEntity<UploadSessionResponseDto> getUploadedParts(
+            @Parameter(description = "Upload session id") String sessionId,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
+
+
+    @Operation(
+            summary = "Complete upload session",
+            description = "Assembles all uploaded parts, including parts uploaded directly through presigned urls, into the target file and closes the session."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "File successfully uploaded",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = FileResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Upload session has no uploaded parts, a part exceeds the part size limit " +
+                            "or the parts do not add up to the declared file size",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "The user is not authorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Upload session not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "File with this name already exists",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "507",
+                    description = "Storage quota exceeded",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    ResponseEntity<FileResponseDto> complete(
+            @Parameter(description = "Upload session id") String sessionId,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
+
+
+    @Operation(
+            summary = "Abort upload session",
+            description = "Discards all uploaded parts and closes the session."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Upload session successfully aborted"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "The user is not authorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Upload session not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    ResponseEntity<Void> abort(
+            @Parameter(description = "Upload session id") String sessionId,
+            UserDetails userDetails,
+            @Parameter(hidden = true) Long id);
+
+}
@@ -1,12 +1,14 @@
 package org.example.cloudstorage.apiDocs;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.example.cloudstorage.dto.ErrorResponseDto;
+import org.example.cloudstorage.dto.userDto.StorageUsageResponseDto;
 import org.example.cloudstorage.dto.userDto.UserResponseDto;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -45,4 +47,29 @@ public interface UserApi {
     )
     ResponseEntity<Map<String, String>> getCurrentUser(Authentication authentication);
 
+    @Operation(
+            summary = "Get storage usage",
+            description = "Returns the bytes and number of files stored by the current user and the storage quota, if one is set."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    description = "Storage usage retrieved successfully",
+                    responseCode = "200",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = StorageUsageResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    description = "The user is not authorized",
+                    responseCode = "401",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    }
+    )
+    ResponseEntity<StorageUsageResponseDto> getStorageUsage(@Parameter(hidden = true) Long id);
+
 }
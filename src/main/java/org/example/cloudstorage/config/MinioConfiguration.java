@@ -1,24 +1,82 @@
 package org.example.cloudstorage.config;
 
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
+import io.minio.http.HttpUtils;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.example.cloudstorage.service.MinioMultipartClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class MinioConfiguration {
 
+    private static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
     @Bean
+    @Primary
     public MinioClient minioClient(
             @Value("${MINIO_URL}")
             String url,
             @Value("${MINIO_USER}")
             String username,
             @Value("${MINIO_PASSWORD}")
+            String password,
+            OkHttpClient minioHttpClient) {
+        return MinioClient.builder()
+                .endpoint(url)
+                .credentials(username, password)
+                .httpClient(minioHttpClient)
+                .build();
+    }
+
+    @Bean
+    public MinioClient minioPresignClient(
+            @Value("${minio.public-url:${MINIO_URL}}")
+            String publicUrl,
+            @Value("${minio.region:us-east-1}")
+            String region,
+            @Value("${MINIO_USER}")
+            String username,
+            @Value("${MINIO_PASSWORD}")
             String password) {
         return MinioClient.builder()
+                .endpoint(publicUrl)
+                .region(region)
+                .credentials(username, password)
+                .build();
+    }
+
+    @Bean
+    public MinioMultipartClient minioMultipartClient(
+            @Value("${MINIO_URL}")
+            String url,
+            @Value("${MINIO_USER}")
+            String username,
+            @Value("${MINIO_PASSWORD}")
+            String password,
+            OkHttpClient minioHttpClient) {
+        return new MinioMultipartClient(MinioAsyncClient.builder()
                 .endpoint(url)
                 .credentials(username, password)
+                .httpClient(minioHttpClient)
+                .build(), minioHttpClient);
+    }
+
+    @Bean
+    public OkHttpClient minioHttpClient(@Value("${minio.http.max-requests:64}") int maxRequests) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequests);
+
+        return HttpUtils.newDefaultHttpClient(DEFAULT_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS)
+                .newBuilder()
+                .dispatcher(dispatcher)
                 .build();
     }
 }
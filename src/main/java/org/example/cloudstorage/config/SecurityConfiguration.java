@@ -3,17 +3,25 @@ package org.example.cloudstorage.config;
 
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
@@ -24,6 +32,42 @@ import org.springframework.security.web.context.SecurityContextRepository;
 @EnableWebSecurity
 public class SecurityConfiguration {
     private final static int MAX_SESSIONS_PER_USER = 1;
+    private final static String METRICS_ROLE = "METRICS";
+
+    /**
+     * Scrapers authenticate with their own basic-auth credentials, kept apart from user accounts.
+     * Covers every actuator endpoint except health, so metrics are never readable by signed-in users.
+     * Without configured credentials these endpoints are closed.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsSecurityFilterChain(HttpSecurity http,
+                                                          @Value("${storage.metrics.scrape-username:}") String username,
+                                                          @Value("${storage.metrics.scrape-password:}") String password) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint().excluding(HealthEndpoint.class))
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(basic -> {
+                });
+
+        if (username.isBlank() || password.isBlank()) {
+            http.authorizeHttpRequests(authorize -> authorize.anyRequest().denyAll());
+            return http.build();
+        }
+
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(passwordEncoder().encode(password))
+                .roles(METRICS_ROLE)
+                .build());
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(scrapers);
+        provider.setPasswordEncoder(passwordEncoder());
+
+        http
+                .authenticationManager(new ProviderManager(provider))
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().hasRole(METRICS_ROLE));
+        return http.build();
+    }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -2,6 +2,8 @@ package org.example.cloudstorage.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Setter;
+import org.example.cloudstorage.security.UserPrincipal;
+import org.example.cloudstorage.security.UserPrincipalMixin;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -24,6 +26,7 @@ public class SessionConfiguration {
     private ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModules(SecurityJackson2Modules.getModules(this.loader));
+        mapper.addMixIn(UserPrincipal.class, UserPrincipalMixin.class);
         return mapper;
 
     }
@@ -0,0 +1,88 @@
+package org.example.cloudstorage.config;
+
+import org.example.cloudstorage.service.RequestStorageStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class StorageExecutorConfiguration {
+
+    private static final String TASK_THREAD_NAME_PREFIX = "storage-task-";
+    private static final String MOVE_THREAD_NAME_PREFIX = "storage-move-";
+    private static final String UPLOAD_THREAD_NAME_PREFIX = "storage-upload-";
+    private static final String STREAMING_THREAD_NAME_PREFIX = "storage-streaming-";
+    private static final String RECONCILE_THREAD_NAME_PREFIX = "storage-reconcile-";
+    private static final String ZIP_PREFETCH_THREAD_NAME_PREFIX = "storage-zip-prefetch-";
+
+    @Primary
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageTaskExecutor(@Value("${storage.executor.threads:16}") int threads) {
+        return new RequestStatsExecutorService(Executors.newFixedThreadPool(threads, threadFactory(TASK_THREAD_NAME_PREFIX)));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageMoveExecutor(@Value("${storage.move.threads:16}") int threads) {
+        return new RequestStatsExecutorService(Executors.newFixedThreadPool(threads, threadFactory(MOVE_THREAD_NAME_PREFIX)));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageUploadExecutor() {
+        return new RequestStatsExecutorService(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(UPLOAD_THREAD_NAME_PREFIX, 0).factory()));
+    }
+
+    /**
+     * Kept apart from the shared task pool so zip downloads cannot starve deletes, moves and probes. When the queue is
+     * full the zip writer reads the entry itself, which slows that download instead of queueing without bound.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageZipPrefetchExecutor(@Value("${storage.download.zip.prefetch-threads:8}") int threads,
+                                                      @Value("${storage.download.zip.prefetch-queue:64}") int queueCapacity) {
+        return new RequestStatsExecutorService(new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(ZIP_PREFETCH_THREAD_NAME_PREFIX),
+                new ThreadPoolExecutor.CallerRunsPolicy()));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageReconcileExecutor(@Value("${storage.usage.reconcile-threads:2}") int threads) {
+        return Executors.newFixedThreadPool(threads, threadFactory(RECONCILE_THREAD_NAME_PREFIX));
+    }
+
+    /**
+     * Platform threads each hold a full stack for the whole transfer, so in that mode the number of bodies streaming
+     * at once is capped and further requests wait for a free slot. Virtual threads stay unbounded.
+     */
+    @Bean
+    public AsyncTaskExecutor streamingTaskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                   @Value("${storage.streaming.max-concurrency:200}") int maxConcurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(STREAMING_THREAD_NAME_PREFIX);
+        executor.setVirtualThreads(virtualThreads);
+        if (!virtualThreads) {
+            executor.setConcurrencyLimit(maxConcurrency);
+        }
+        executor.setTaskDecorator(RequestStorageStats::propagate);
+        return executor;
+    }
+
+    private ThreadFactory threadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
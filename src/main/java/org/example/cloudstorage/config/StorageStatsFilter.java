@@ -0,0 +1,172 @@
+package org.example.cloudstorage.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.service.RequestStorageStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+@Slf4j
+@Component
+public class StorageStatsFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final DistributionSummary callsPerRequest;
+    private final DistributionSummary bytesPerRequest;
+    private final Counter amplifiedRequests;
+    private final int warnThreshold;
+
+    public StorageStatsFilter(MeterRegistry meterRegistry,
+                              @Value("${storage.request-stats.warn-threshold:50}") int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+        this.callsPerRequest = DistributionSummary.builder("storage.request.calls")
+                .description("Storage calls made while serving one request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.bytesPerRequest = DistributionSummary.builder("storage.request.bytes")
+                .description("Bytes moved to and from storage while serving one request")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.amplifiedRequests = Counter.builder("storage.request.amplified")
+                .description("Requests that exceeded the storage call warning threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStorageStats stats = new RequestStorageStats();
+        ServerTimingResponse timingResponse = new ServerTimingResponse(response, stats);
+
+        RequestStorageStats.bind(stats);
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            RequestStorageStats.clear();
+            timingResponse.addServerTiming();
+            if (isAsyncStarted(request)) {
+                request.getAsyncContext().addListener(new ReportingListener(request, stats));
+            } else {
+                report(request, stats);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestStorageStats stats) {
+        long calls = stats.getCallCount();
+        callsPerRequest.record(calls);
+        bytesPerRequest.record(stats.getUploadedBytes() + stats.getDownloadedBytes());
+
+        if (calls > warnThreshold) {
+            amplifiedRequests.increment();
+            log.warn("Request {} {} made {} storage calls (threshold {}): {}",
+                    request.getMethod(), request.getRequestURI(), calls, warnThreshold, stats);
+        } else {
+            log.debug("Request {} {} storage usage: {}", request.getMethod(), request.getRequestURI(), stats);
+        }
+    }
+
+    private final class ReportingListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final RequestStorageStats stats;
+
+        private ReportingListener(HttpServletRequest request, RequestStorageStats stats) {
+            this.request = request;
+            this.stats = stats;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            report(request, stats);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    /**
+     * Adds the Server-Timing header just before the response commits, so it is a snapshot of the storage work done
+     * up to the first body byte. Calls made while a streamed body is written are not in the header; they are still
+     * counted in the per-request metrics, which are reported once the async request completes.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestStorageStats stats;
+        private boolean timingAdded;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestStorageStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            addServerTiming();
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            addServerTiming();
+            super.sendError(status, message);
+        }
+
+        private synchronized void addServerTiming() {
+            if (timingAdded || isCommitted()) {
+                return;
+            }
+            timingAdded = true;
+            setHeader(SERVER_TIMING_HEADER, stats.toServerTiming());
+        }
+    }
+
+}
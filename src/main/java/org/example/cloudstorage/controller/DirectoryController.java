@@ -5,20 +5,27 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.cloudstorage.apiDocs.DirectoryApi;
+import org.example.cloudstorage.dto.fileSystemRequestDto.DirectoryPageRequestDto;
 import org.example.cloudstorage.dto.fileSystemRequestDto.FileSystemPathRequestDto;
+import org.example.cloudstorage.dto.resourceResponseDto.DirectoryPageResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.FolderResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
 import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.security.CurrentUserId;
+import org.example.cloudstorage.service.DirectoryPageService;
 import org.example.cloudstorage.service.DirectoryService;
-import org.example.cloudstorage.service.UserService;
+import org.example.cloudstorage.service.ResourceStreamService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -29,15 +36,16 @@ import java.util.List;
 public class DirectoryController implements DirectoryApi {
 
     private final DirectoryService directoryService;
-    private final UserService userService;
+    private final DirectoryPageService directoryPageService;
+    private final ResourceStreamService resourceStreamService;
 
 
     @GetMapping("/directory")
     public ResponseEntity<List<ResourceResponseDto>> getDirectory(@Valid FileSystemPathRequestDto fileSystemDto,
-                                          @AuthenticationPrincipal UserDetails userDetails) {
+                                          @AuthenticationPrincipal UserDetails userDetails,
+                                          @CurrentUserId Long id) {
         log.info("Getting directory for user: {}, path: {}", userDetails.getUsername(), fileSystemDto.path());
 
-        Long id = userService.getId(userDetails.getUsername());
         List<ResourceResponseDto> resource = directoryService.getDirectory(id, fileSystemDto.path(), TraversalMode.NON_RECURSIVE);
 
         log.info("Successfully retrieved items from directory: {}", fileSystemDto.path());
@@ -45,12 +53,42 @@ public class DirectoryController implements DirectoryApi {
         return ResponseEntity.ok(resource);
     }
 
+    @GetMapping(value = "/directory", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamDirectory(@Valid FileSystemPathRequestDto fileSystemDto,
+                                                                 @RequestParam(defaultValue = "false") boolean recursive,
+                                                                 @AuthenticationPrincipal UserDetails userDetails,
+                                                                 @CurrentUserId Long id) {
+        log.info("Streaming directory for user: {}, path: {}, recursive: {}",
+                userDetails.getUsername(), fileSystemDto.path(), recursive);
+
+        TraversalMode traversalMode = recursive ? TraversalMode.RECURSIVE : TraversalMode.NON_RECURSIVE;
+        StreamingResponseBody responseBody = resourceStreamService.streamDirectory(id, fileSystemDto.path(), traversalMode);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
+
+    @GetMapping("/directory/page")
+    public ResponseEntity<DirectoryPageResponseDto> getDirectoryPage(@Valid DirectoryPageRequestDto pageDto,
+                                                                     @AuthenticationPrincipal UserDetails userDetails,
+                                                                     @CurrentUserId Long id) {
+        log.info("Getting directory page for user: {}, path: {}", userDetails.getUsername(), pageDto.path());
+
+        DirectoryPageResponseDto page = directoryPageService.getPage(
+                id, pageDto.path(), pageDto.limit(), pageDto.cursor(), pageDto.sort());
+
+        log.info("Successfully retrieved {} items from directory: {}", page.items().size(), pageDto.path());
+
+        return ResponseEntity.ok(page);
+    }
+
     @PostMapping("/directory")
     public ResponseEntity<FolderResponseDto> createDirectory(@Valid FileSystemPathRequestDto fileSystemDto,
-                                                             @AuthenticationPrincipal UserDetails userDetails) {
+                                                             @AuthenticationPrincipal UserDetails userDetails,
+                                                             @CurrentUserId Long id) {
         log.info("Creating directory for user: {}, path: {}", userDetails.getUsername(), fileSystemDto.path());
 
-        Long id = userService.getId(userDetails.getUsername());
         FolderResponseDto folder = directoryService.createDirectory(id, fileSystemDto.path());
 
         log.info("Directory created successfully for user: {}, path: {}", userDetails.getUsername(), fileSystemDto.path());
@@ -1,6 +1,10 @@
 package org.example.cloudstorage.controller;
 
+import io.minio.StatObjectResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.cloudstorage.apiDocs.ResourceApi;
@@ -8,9 +12,15 @@ import org.example.cloudstorage.dto.fileSystemRequestDto.FileSystemMoveRequestDt
 import org.example.cloudstorage.dto.fileSystemRequestDto.FileSystemPathRequestDto;
 import org.example.cloudstorage.dto.fileSystemRequestDto.FileSystemSearchRequestDto;
 import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.exception.InvalidPathException;
+import org.example.cloudstorage.model.ZipCompressionProfile;
+import org.example.cloudstorage.security.CurrentUserId;
 import org.example.cloudstorage.service.ResourceService;
-import org.example.cloudstorage.service.UserService;
+import org.example.cloudstorage.service.ResourceStreamService;
+import org.example.cloudstorage.service.StreamingUploadService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,11 +29,19 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import static org.example.cloudstorage.utils.ConditionalRequestUtils.isNoneMatchSatisfied;
+import static org.example.cloudstorage.utils.ConditionalRequestUtils.resolveRange;
+import static org.example.cloudstorage.utils.ConditionalRequestUtils.toEntityTag;
 import static org.example.cloudstorage.utils.PathUtils.extractResourceName;
 
 @Slf4j
@@ -32,16 +50,25 @@ import static org.example.cloudstorage.utils.PathUtils.extractResourceName;
 @RequestMapping("/api/resource")
 public class ResourceController implements ResourceApi {
 
+    private static final String PATH_PARAMETER = "path";
+    private static final String ROOT_PATH = "";
+    private static final String BYTES_RANGE_UNIT = "bytes";
+
     private final ResourceService resourceService;
-    private final UserService userService;
+    private final StreamingUploadService streamingUploadService;
+    private final ResourceStreamService resourceStreamService;
+    private final Validator validator;
+
+    @Value("${storage.download.presigned.enabled:false}")
+    private boolean presignedDownloadEnabled;
 
     @GetMapping
     public ResponseEntity<ResourceResponseDto> getResourceInfo(@Valid FileSystemPathRequestDto fileSystemDto,
-                                                               @AuthenticationPrincipal UserDetails userDetails) {
+                                                               @AuthenticationPrincipal UserDetails userDetails,
+                                                               @CurrentUserId Long id) {
 
         log.info("Getting resource info - user: {}, path: {}", userDetails.getUsername(), fileSystemDto.path());
 
-        Long id = userService.getId(userDetails.getUsername());
         ResourceResponseDto resource = resourceService.getResourceInfo(id, fileSystemDto.path());
 
         log.debug("Resource info retrieved - user: {}, path: {}, type: {}",
@@ -52,11 +79,11 @@ public class ResourceController implements ResourceApi {
 
     @DeleteMapping
     public ResponseEntity<Void> delete(@AuthenticationPrincipal UserDetails userDetails,
+                                       @CurrentUserId Long id,
                                        @Valid FileSystemPathRequestDto fileSystemDto) {
 
         log.warn("Deleting resource - user: {}, path: {}", userDetails.getUsername(), fileSystemDto.path());
 
-        Long id = userService.getId(userDetails.getUsername());
         resourceService.delete(id, fileSystemDto.path());
 
         log.warn("Resource deleted - user: {}, path: {}", userDetails.getUsername(), fileSystemDto.path());
@@ -67,12 +94,12 @@ public class ResourceController implements ResourceApi {
     @PostMapping
     public ResponseEntity<List<ResourceResponseDto>> upload(@Valid FileSystemPathRequestDto fileSystemDto,
                                                             @RequestPart("object") MultipartFile[] file,
-                                                            @AuthenticationPrincipal UserDetails userDetails) {
+                                                            @AuthenticationPrincipal UserDetails userDetails,
+                                                            @CurrentUserId Long id) {
 
         log.info("Uploading files - user: {}, target path: {}, files count: {}",
                 userDetails.getUsername(), fileSystemDto.path(), file.length);
 
-        Long id = userService.getId(userDetails.getUsername());
         List<ResourceResponseDto> resources = resourceService.upload(id, fileSystemDto.path(), file);
 
         log.info("Files uploaded successfully - user: {}, path: {}, uploaded resources: {}",
@@ -81,15 +108,34 @@ public class ResourceController implements ResourceApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(resources);
     }
 
+    @PostMapping(value = "/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<ResourceResponseDto>> uploadStream(HttpServletRequest request,
+                                                                  @AuthenticationPrincipal UserDetails userDetails,
+                                                                  @CurrentUserId Long id) {
+
+        String path = extractPathParameter(request);
+        log.info("Streaming upload - user: {}, target path: {}", userDetails.getUsername(), path);
+
+        List<ResourceResponseDto> resources = streamingUploadService.upload(id, path, request);
+
+        log.info("Files streamed successfully - user: {}, path: {}, uploaded resources: {}",
+                userDetails.getUsername(), path, resources.size());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(resources);
+    }
+
     @GetMapping("/download")
     public ResponseEntity<StreamingResponseBody> download(@Valid FileSystemPathRequestDto fileSystemDto,
-                                                          @AuthenticationPrincipal UserDetails userDetails) {
+                                                          @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                          @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                          @RequestParam(defaultValue = "default") ZipCompressionProfile compression,
+                                                          @AuthenticationPrincipal UserDetails userDetails,
+                                                          @CurrentUserId Long id) {
 
         log.info("Downloading resource - user: {}, path: {}", userDetails.getUsername(), fileSystemDto.path());
 
-        Long id = userService.getId(userDetails.getUsername());
         String resourceName = fileSystemDto.path();
-        StreamingResponseBody responseBody = resourceService.download(id, resourceName);
 
         boolean isTrailingSlash = false;
         String correctName = extractResourceName(resourceName, isTrailingSlash);
@@ -98,24 +144,91 @@ public class ResourceController implements ResourceApi {
         String contentDisposition = "attachment; filename*=utf-8''" + encodedName;
         String contentDispositionZip = "attachment; filename*=utf-8''" + encodedName + ".zip";
 
+        if (resourceName.endsWith("/")) {
+            StreamingResponseBody responseBody = resourceService.download(id, resourceName, compression);
+
+            log.debug("Downloaded successfully for user: {}, path: {}",
+                    userDetails.getUsername(), resourceName);
+
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDispositionZip)
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(responseBody);
+        }
+
+        if (presignedDownloadEnabled) {
+            URI downloadUrl = resourceService.getDownloadUrl(id, resourceName, contentDisposition);
+
+            log.debug("Redirecting download to presigned url for user: {}, path: {}",
+                    userDetails.getUsername(), resourceName);
+
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(downloadUrl)
+                    .build();
+        }
+
+        StatObjectResponse file = resourceService.getCurrentFileInfo(id, resourceName);
+        String entityTag = toEntityTag(file.etag());
+        long size = file.size();
+
+        if (isNoneMatchSatisfied(ifNoneMatch, entityTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(entityTag)
+                    .build();
+        }
+
+        Optional<HttpRange> requestedRange = resolveRange(range, ifRange, entityTag);
+        if (requestedRange.isPresent()) {
+            long start;
+            long end;
+            try {
+                start = requestedRange.get().getRangeStart(size);
+                end = requestedRange.get().getRangeEnd(size);
+            } catch (IllegalArgumentException exception) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+
+            long length = end - start + 1;
+            StreamingResponseBody responseBody = resourceService.downloadFileRange(id, resourceName, file, start, length);
+
+            log.debug("Downloaded range {}-{} for user: {}, path: {}",
+                    start, end, userDetails.getUsername(), resourceName);
+
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+                    .header(HttpHeaders.ACCEPT_RANGES, BYTES_RANGE_UNIT)
+                    .eTag(entityTag)
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(length)
+                    .body(responseBody);
+        }
+
+        StreamingResponseBody responseBody = resourceService.downloadFile(id, resourceName, file);
+
         log.debug("Downloaded successfully for user: {}, path: {}",
                 userDetails.getUsername(), resourceName);
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, resourceName.endsWith("/") ? contentDispositionZip : contentDisposition)
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                .header(HttpHeaders.ACCEPT_RANGES, BYTES_RANGE_UNIT)
+                .eTag(entityTag)
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
                 .body(responseBody);
 
     }
 
     @GetMapping("/move")
     public ResponseEntity<ResourceResponseDto> move(@Valid FileSystemMoveRequestDto fileMoveDto,
-                                                    @AuthenticationPrincipal UserDetails userDetails) {
+                                                    @AuthenticationPrincipal UserDetails userDetails,
+                                                    @CurrentUserId Long id) {
 
         log.info("Moving resource - user: {}, from: {}, to: {}",
                 userDetails.getUsername(), fileMoveDto.from(), fileMoveDto.to());
 
-        Long id = userService.getId(userDetails.getUsername());
         ResourceResponseDto resource = resourceService.move(id, fileMoveDto.from(), fileMoveDto.to());
 
         log.info("Resource moved successfully - user: {}, from: {}, to: {}",
@@ -126,11 +239,11 @@ public class ResourceController implements ResourceApi {
 
     @GetMapping("/search")
     public ResponseEntity<List<ResourceResponseDto>> search(@Valid FileSystemSearchRequestDto dto,
-                                                            @AuthenticationPrincipal UserDetails userDetails) {
+                                                            @AuthenticationPrincipal UserDetails userDetails,
+                                                            @CurrentUserId Long id) {
 
         log.info("Searching resources - user: {}, query: {}", userDetails.getUsername(), dto.query());
 
-        Long id = userService.getId(userDetails.getUsername());
         List<ResourceResponseDto> queryResults = resourceService.search(id, dto.query());
 
         log.info("Search completed - user: {}, query: {}, results: {}",
@@ -139,5 +252,39 @@ public class ResourceController implements ResourceApi {
         return ResponseEntity.status(HttpStatus.OK).body(queryResults);
     }
 
-}
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSearch(@Valid FileSystemSearchRequestDto dto,
+                                                              @AuthenticationPrincipal UserDetails userDetails,
+                                                              @CurrentUserId Long id) {
+
+        log.info("Streaming search results - user: {}, query: {}", userDetails.getUsername(), dto.query());
+
+        StreamingResponseBody responseBody = resourceStreamService.streamSearch(id, dto.query());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
 
+    private String extractPathParameter(HttpServletRequest request) {
+        String queryString = request.getQueryString();
+        if (queryString == null) {
+            return ROOT_PATH;
+        }
+
+        String encodedPath = UriComponentsBuilder.newInstance()
+                .query(queryString)
+                .build()
+                .getQueryParams()
+                .getFirst(PATH_PARAMETER);
+        String path = encodedPath == null ? ROOT_PATH : URLDecoder.decode(encodedPath, StandardCharsets.UTF_8);
+
+        Set<ConstraintViolation<FileSystemPathRequestDto>> violations =
+                validator.validate(new FileSystemPathRequestDto(path));
+        if (!violations.isEmpty()) {
+            throw new InvalidPathException(violations.iterator().next().getMessage());
+        }
+        return path;
+    }
+
+}
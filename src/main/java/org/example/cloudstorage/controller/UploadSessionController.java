@@ -0,0 +1,101 @@
+package org.example.cloudstorage.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.apiDocs.UploadSessionApi;
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadPartResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadPartUrlResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadSessionCreateRequestDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadSessionResponseDto;
+import org.example.cloudstorage.security.CurrentUserId;
+import org.example.cloudstorage.service.UploadSessionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/upload-sessions")
+public class UploadSessionController implements UploadSessionApi {
+
+    private final UploadSessionService uploadSessionService;
+
+    @PostMapping
+    public ResponseEntity<UploadSessionResponseDto> create(@Valid UploadSessionCreateRequestDto dto,
+                                                           @AuthenticationPrincipal UserDetails userDetails,
+                                                           @CurrentUserId Long id) {
+        log.info("Creating upload session - user: {}, path: {}, name: {}", userDetails.getUsername(), dto.path(), dto.name());
+
+        UploadSessionResponseDto session = uploadSessionService.create(id, dto.path(), dto.name(), dto.contentType(), dto.size());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(session);
+    }
+
+    @PutMapping("/{sessionId}/parts/{partNumber}")
+    public ResponseEntity<UploadPartResponseDto> uploadPart(@PathVariable String sessionId,
+                                                            @PathVariable int partNumber,
+                                                            HttpServletRequest request,
+                                                            @AuthenticationPrincipal UserDetails userDetails,
+                                                            @CurrentUserId Long id) throws IOException {
+        log.debug("Uploading part - user: {}, session: {}, part: {}", userDetails.getUsername(), sessionId, partNumber);
+
+        UploadPartResponseDto part = uploadSessionService.uploadPart(
+                id, sessionId, partNumber, request.getInputStream(), request.getContentLengthLong());
+
+        return ResponseEntity.ok(part);
+    }
+
+    @GetMapping("/{sessionId}/parts/{partNumber}/url")
+    public ResponseEntity<UploadPartUrlResponseDto> getPartUploadUrl(@PathVariable String sessionId,
+                                                                     @PathVariable int partNumber,
+                                                                     @AuthenticationPrincipal UserDetails userDetails,
+                                                                     @CurrentUserId Long id) {
+        log.debug("Presigning part upload - user: {}, session: {}, part: {}", userDetails.getUsername(), sessionId, partNumber);
+
+        return ResponseEntity.ok(uploadSessionService.getPartUploadUrl(id, sessionId, partNumber));
+    }
+
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<UploadSessionResponseDto> getUploadedParts(@PathVariable String sessionId,
+                                                                     @AuthenticationPrincipal UserDetails userDetails,
+                                                                     @CurrentUserId Long id) {
+        return ResponseEntity.ok(uploadSessionService.getUploadedParts(id, sessionId));
+    }
+
+    @PostMapping("/{sessionId}/complete")
+    public ResponseEntity<FileResponseDto> complete(@PathVariable String sessionId,
+                                                    @AuthenticationPrincipal UserDetails userDetails,
+                                                    @CurrentUserId Long id) {
+        log.info("Completing upload session - user: {}, session: {}", userDetails.getUsername(), sessionId);
+
+        FileResponseDto file = uploadSessionService.complete(id, sessionId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(file);
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Void> abort(@PathVariable String sessionId,
+                                      @AuthenticationPrincipal UserDetails userDetails,
+                                      @CurrentUserId Long id) {
+        log.info("Aborting upload session - user: {}, session: {}", userDetails.getUsername(), sessionId);
+
+        uploadSessionService.abort(id, sessionId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+}
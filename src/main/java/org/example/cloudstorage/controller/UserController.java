@@ -3,6 +3,10 @@ package org.example.cloudstorage.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.cloudstorage.apiDocs.UserApi;
+import org.example.cloudstorage.dto.userDto.StorageUsageResponseDto;
+import org.example.cloudstorage.model.StorageUsage;
+import org.example.cloudstorage.security.CurrentUserId;
+import org.example.cloudstorage.service.StorageUsageService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,8 +21,22 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class UserController implements UserApi {
 
+    private final StorageUsageService storageUsageService;
+
     @GetMapping("/me")
     public ResponseEntity<Map<String,String>> getCurrentUser(Authentication authentication) {
         return ResponseEntity.ok(Map.of("username", authentication.getName()));
     }
+
+    @GetMapping("/usage")
+    public ResponseEntity<StorageUsageResponseDto> getStorageUsage(@CurrentUserId Long id) {
+        StorageUsage usage = storageUsageService.getUsage(id);
+        long quotaBytes = storageUsageService.getQuotaBytes();
+
+        return ResponseEntity.ok(new StorageUsageResponseDto(
+                usage.getUsedBytes(),
+                usage.getFileCount(),
+                quotaBytes > 0 ? quotaBytes : null
+        ));
+    }
 }
\ No newline at end of file
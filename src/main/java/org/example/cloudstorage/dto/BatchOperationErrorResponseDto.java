@@ -0,0 +1,12 @@
+package org.example.cloudstorage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record BatchOperationErrorResponseDto(
+        @Schema(description = "Error message")
+        String message,
+        @Schema(description = "Paths of the resources the operation failed for")
+        List<String> failedPaths) {
+}
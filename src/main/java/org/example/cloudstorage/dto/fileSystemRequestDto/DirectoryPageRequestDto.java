@@ -0,0 +1,26 @@
+package org.example.cloudstorage.dto.fileSystemRequestDto;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import org.example.cloudstorage.model.DirectorySort;
+
+
+public record DirectoryPageRequestDto(
+
+        @Parameter(description = "Path to the directory")
+        @Pattern(regexp = "^[^\\\\:*?\"<>|]*$", message = "Path contains invalid characters")
+        String path,
+
+        @Parameter(description = "Maximum number of resources in the page")
+        @Min(value = 1, message = "Limit must be between 1 and 1000")
+        @Max(value = 1000, message = "Limit must be between 1 and 1000")
+        Integer limit,
+
+        @Parameter(description = "Cursor returned with the previous page")
+        String cursor,
+
+        @Parameter(description = "Sort order: NAME, SIZE or TYPE (folders first)")
+        DirectorySort sort) {
+}
@@ -0,0 +1,8 @@
+package org.example.cloudstorage.dto.resourceResponseDto;
+
+import java.util.List;
+
+public record DirectoryPageResponseDto(
+        List<ResourceResponseDto> items,
+        String nextCursor) {
+}
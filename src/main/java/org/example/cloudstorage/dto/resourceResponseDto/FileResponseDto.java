@@ -1,10 +1,21 @@
 package org.example.cloudstorage.dto.resourceResponseDto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.example.cloudstorage.model.ResourceType;
+import org.example.cloudstorage.model.UploadStatus;
 
+/**
+ * {@code status} and {@code error} are only set on batch upload results, where each file succeeds or fails on its own.
+ */
 public record FileResponseDto(
         String path,
         String name,
         Long size,
-        ResourceType type) implements ResourceResponseDto {
+        ResourceType type,
+        @JsonInclude(JsonInclude.Include.NON_NULL) UploadStatus status,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String error) implements ResourceResponseDto {
+
+    public FileResponseDto(String path, String name, Long size, ResourceType type) {
+        this(path, name, size, type, null, null);
+    }
 }
@@ -0,0 +1,7 @@
+package org.example.cloudstorage.dto.uploadSessionDto;
+
+public record UploadPartResponseDto(
+        int partNumber,
+        String etag,
+        long size) {
+}
@@ -0,0 +1,9 @@
+package org.example.cloudstorage.dto.uploadSessionDto;
+
+import java.time.Instant;
+
+public record UploadPartUrlResponseDto(
+        int partNumber,
+        String url,
+        Instant expiresAt) {
+}
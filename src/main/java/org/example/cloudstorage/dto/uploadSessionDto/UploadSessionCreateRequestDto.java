@@ -0,0 +1,28 @@
+package org.example.cloudstorage.dto.uploadSessionDto;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+
+public record UploadSessionCreateRequestDto(
+
+        @Parameter(description = "Path to the target directory for upload")
+        @Pattern(regexp = "^[^\\\\:*?\"<>|]*$", message = "Path contains invalid characters")
+        String path,
+
+        @Parameter(description = "Name of the uploaded file, may contain nested folders")
+        @NotBlank(message = "File name cannot be empty")
+        @Pattern(regexp = "^[^\\\\:*?\"<>|]*$", message = "File name contains invalid characters")
+        String name,
+
+        @Parameter(description = "Content type of the uploaded file")
+        String contentType,
+
+        @Parameter(description = "Total size of the uploaded file in bytes")
+        @NotNull(message = "File size is required")
+        @Positive(message = "File size must be positive")
+        Long size) {
+}
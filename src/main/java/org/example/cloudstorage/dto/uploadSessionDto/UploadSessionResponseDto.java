@@ -0,0 +1,10 @@
+package org.example.cloudstorage.dto.uploadSessionDto;
+
+import java.util.List;
+
+public record UploadSessionResponseDto(
+        String sessionId,
+        String path,
+        String name,
+        List<UploadPartResponseDto> parts) {
+}
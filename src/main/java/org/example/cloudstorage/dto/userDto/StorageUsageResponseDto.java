@@ -0,0 +1,7 @@
+package org.example.cloudstorage.dto.userDto;
+
+public record StorageUsageResponseDto(
+        long usedBytes,
+        long fileCount,
+        Long quotaBytes) {
+}
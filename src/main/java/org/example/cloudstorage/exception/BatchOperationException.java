@@ -0,0 +1,23 @@
+package org.example.cloudstorage.exception;
+
+import java.util.List;
+
+public class BatchOperationException extends RuntimeException {
+
+    private final List<String> failedPaths;
+
+    public BatchOperationException(String message, List<String> failedPaths) {
+        super(message);
+        this.failedPaths = List.copyOf(failedPaths);
+    }
+
+    public BatchOperationException(String message, List<String> failedPaths, Throwable t) {
+        super(message, t);
+        this.failedPaths = List.copyOf(failedPaths);
+    }
+
+    public List<String> getFailedPaths() {
+        return failedPaths;
+    }
+
+}
@@ -0,0 +1,12 @@
+package org.example.cloudstorage.exception;
+
+public class FileUploadException extends RuntimeException {
+    public FileUploadException(String message) {
+        super(message);
+    }
+
+    public FileUploadException(String message, Throwable t) {
+        super(message, t);
+    }
+
+}
@@ -0,0 +1,11 @@
+package org.example.cloudstorage.exception;
+
+public class ResourceModifiedException extends RuntimeException {
+    public ResourceModifiedException(String message) {
+        super(message);
+    }
+
+    public ResourceModifiedException(String message, Throwable t) {
+        super(message, t);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.cloudstorage.exception;
+
+public class UploadSessionException extends RuntimeException {
+    public UploadSessionException(String message) {
+        super(message);
+    }
+
+    public UploadSessionException(String message, Throwable t) {
+        super(message, t);
+    }
+
+    public UploadSessionException(Throwable t) {
+        super(t);
+    }
+
+}
@@ -4,16 +4,24 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.dto.BatchOperationErrorResponseDto;
 import org.example.cloudstorage.dto.ErrorResponseDto;
+import org.example.cloudstorage.exception.BatchOperationException;
+import org.example.cloudstorage.exception.FileUploadException;
 import org.example.cloudstorage.exception.InvalidPathException;
+import org.example.cloudstorage.exception.QuotaExceededException;
 import org.example.cloudstorage.exception.ResourceExistsException;
+import org.example.cloudstorage.exception.ResourceModifiedException;
 import org.example.cloudstorage.exception.ResourceNotFoundException;
+import org.example.cloudstorage.exception.UploadSessionException;
 import org.example.cloudstorage.exception.UserExistsException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
@@ -21,6 +29,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartException;
 
@@ -33,6 +42,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    @Value("${spring.servlet.multipart.max-request-size:10MB}")
+    private DataSize multipartMaxRequestSize;
+
     @ExceptionHandler(UserExistsException.class)
     public ResponseEntity<ErrorResponseDto> handleUserAlreadyExistsException(UserExistsException exception) {
         log.warn("USER ALREADY EXISTS");
@@ -90,10 +102,60 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(ResourceModifiedException.class)
+    public ResponseEntity<ErrorResponseDto> handleResourceModifiedException(ResourceModifiedException exception) {
+        log.warn("Resource changed during download");
+        ErrorResponseDto error = buildError(exception);
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(BatchOperationException.class)
+    public ResponseEntity<BatchOperationErrorResponseDto> handleBatchOperationException(BatchOperationException exception) {
+        log.warn("Batch operation failed for {} resources", exception.getFailedPaths().size());
+        BatchOperationErrorResponseDto error = new BatchOperationErrorResponseDto(
+                exception.getMessage(),
+                exception.getFailedPaths()
+        );
+        return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @ExceptionHandler(UploadSessionException.class)
+    public ResponseEntity<ErrorResponseDto> handleUploadSessionException(UploadSessionException exception) {
+        log.warn("INVALID UPLOAD SESSION REQUEST");
+        ErrorResponseDto error = buildError(exception);
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handleQuotaExceededException(QuotaExceededException exception) {
+        log.warn("STORAGE QUOTA EXCEEDED");
+        ErrorResponseDto error = buildError(exception);
+        return new ResponseEntity<>(error, HttpStatus.INSUFFICIENT_STORAGE);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponseDto> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException exception) {
+        log.warn("Invalid value for request parameter {}", exception.getName());
+        ErrorResponseDto error = new ErrorResponseDto(String.format("Invalid value for parameter '%s'", exception.getName()));
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<ErrorResponseDto> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException exception) {
         log.warn("Maximum upload size exceeded");
-        ErrorResponseDto error = new ErrorResponseDto("Maximum uploaded size must be less than 500MB");
+        long maxUploadSize = exception.getMaxUploadSize() > 0
+                ? exception.getMaxUploadSize()
+                : multipartMaxRequestSize.toBytes();
+        ErrorResponseDto error = new ErrorResponseDto(
+                String.format("Maximum uploaded size must be less than %s", formatSize(maxUploadSize))
+        );
+        return new ResponseEntity<>(error, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @ExceptionHandler(FileUploadException.class)
+    public ResponseEntity<ErrorResponseDto> handleFileUploadException(FileUploadException exception) {
+        log.warn("FAILED TO READ UPLOAD STREAM", exception);
+        ErrorResponseDto error = new ErrorResponseDto("Failed to read upload stream");
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
@@ -115,6 +177,16 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    private String formatSize(long bytes) {
+        if (bytes % DataSize.ofGigabytes(1).toBytes() == 0) {
+            return DataSize.ofBytes(bytes).toGigabytes() + "GB";
+        }
+        if (bytes % DataSize.ofMegabytes(1).toBytes() == 0) {
+            return DataSize.ofBytes(bytes).toMegabytes() + "MB";
+        }
+        return bytes + " bytes";
+    }
+
     private ErrorResponseDto buildError(RuntimeException exception) {
         return new ErrorResponseDto(
                 exception.getMessage()
@@ -5,6 +5,7 @@ import io.minio.messages.Item;
 import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.FolderResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.model.ResourceMetadata;
 import org.example.cloudstorage.service.StoragePathService;
 import org.example.cloudstorage.utils.PathUtils;
 import org.mapstruct.Mapper;
@@ -39,6 +40,27 @@ public interface FileSystemMapper {
         }
     }
 
+    default ResourceResponseDto metadataToDto(ResourceMetadata resource, String path) {
+        if (resource.isDirectory()) {
+            return metadataToFolderDto(resource, path);
+        } else {
+            return metadataToFileDto(resource, path);
+        }
+    }
+
+    @Mapping(target = "path", source = "path")
+    @Mapping(target = "name", source = "resource.name")
+    @Mapping(target = "type", expression = "java(ResourceType.DIRECTORY)")
+    FolderResponseDto metadataToFolderDto(ResourceMetadata resource, String path);
+
+    @Mapping(target = "path", source = "path")
+    @Mapping(target = "name", source = "resource.name")
+    @Mapping(target = "size", source = "resource.size")
+    @Mapping(target = "type", expression = "java(ResourceType.FILE)")
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "error", ignore = true)
+    FileResponseDto metadataToFileDto(ResourceMetadata resource, String path);
+
     @Mapping(target = "path", source = "path")
     @Mapping(target = "name", source = "resourceName")
     @Mapping(target = "type", expression = "java(ResourceType.DIRECTORY)")
@@ -48,6 +70,8 @@ public interface FileSystemMapper {
     @Mapping(target = "name", source = "resourceName")
     @Mapping(target = "size", expression = "java(object.size())")
     @Mapping(target = "type", expression = "java(ResourceType.FILE)")
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "error", ignore = true)
     FileResponseDto statToFileDto(StatObjectResponse object, String path, String resourceName);
 
 
@@ -60,6 +84,8 @@ public interface FileSystemMapper {
     @Mapping(target = "name", source = "item", qualifiedByName = "extractResourceName")
     @Mapping(target = "size", source = "item", qualifiedByName = "extractSize")
     @Mapping(target = "type", expression = "java(ResourceType.FILE)")
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "error", ignore = true)
     FileResponseDto itemToFileDto(Item item, String path);
 
     @Named("extractResourceName")
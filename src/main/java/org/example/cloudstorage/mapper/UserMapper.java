@@ -3,6 +3,7 @@ package org.example.cloudstorage.mapper;
 import org.example.cloudstorage.dto.userDto.UserRegistrationRequestDto;
 import org.example.cloudstorage.dto.userDto.UserResponseDto;
 import org.example.cloudstorage.model.User;
+import org.example.cloudstorage.security.UserPrincipal;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -17,8 +18,9 @@ public interface UserMapper {
 
     UserResponseDto toResponseDto(User user);
 
-    default org.springframework.security.core.userdetails.User toUserDetails(User user) {
-        return new org.springframework.security.core.userdetails.User(
+    default UserPrincipal toUserDetails(User user) {
+        return new UserPrincipal(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(),
                 java.util.Collections.emptyList()
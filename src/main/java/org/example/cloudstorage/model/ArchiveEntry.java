@@ -0,0 +1,7 @@
+package org.example.cloudstorage.model;
+
+public record ArchiveEntry(
+        String name,
+        String objectPath,
+        long size) {
+}
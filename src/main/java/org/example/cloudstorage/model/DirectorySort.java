@@ -0,0 +1,7 @@
+package org.example.cloudstorage.model;
+
+public enum DirectorySort {
+    NAME,
+    SIZE,
+    TYPE
+}
@@ -0,0 +1,54 @@
+package org.example.cloudstorage.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "namespace_nodes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_namespace_nodes_parent_name",
+                columnNames = {"user_id", "parent_id", "name"})
+)
+public class NamespaceNode {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "parent_id", nullable = false)
+    private Long parentId;
+
+    @Column(nullable = false, columnDefinition = "varchar(255) collate \"C\"")
+    private String name;
+
+    @Column(nullable = false)
+    private boolean directory;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "blob_hash", length = 64)
+    private String blobHash;
+
+    @Column(name = "last_modified", nullable = false)
+    private Instant lastModified;
+
+}
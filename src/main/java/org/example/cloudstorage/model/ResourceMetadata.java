@@ -0,0 +1,57 @@
+package org.example.cloudstorage.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "resources",
+        uniqueConstraints = @UniqueConstraint(name = "uk_resources_user_path", columnNames = {"user_id", "path"}),
+        indexes = @Index(name = "idx_resources_user_parent", columnList = "user_id, parent_path, path")
+)
+public class ResourceMetadata {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, columnDefinition = "varchar(1024) collate \"C\"")
+    private String path;
+
+    @Column(name = "parent_path", nullable = false, columnDefinition = "varchar(1024) collate \"C\"")
+    private String parentPath;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private boolean directory;
+
+    @Column(nullable = false)
+    private long size;
+
+    private String etag;
+
+    @Column(name = "last_modified", nullable = false)
+    private Instant lastModified;
+
+}
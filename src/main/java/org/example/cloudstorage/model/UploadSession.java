@@ -0,0 +1,14 @@
+package org.example.cloudstorage.model;
+
+public record UploadSession(
+        String id,
+        Long userId,
+        String path,
+        String name,
+        String uploadId,
+        long size) {
+
+    public String fullPath() {
+        return path + name;
+    }
+}
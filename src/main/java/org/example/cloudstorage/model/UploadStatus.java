@@ -0,0 +1,6 @@
+package org.example.cloudstorage.model;
+
+public enum UploadStatus {
+    UPLOADED,
+    FAILED
+}
@@ -0,0 +1,51 @@
+package org.example.cloudstorage.repository;
+
+import org.example.cloudstorage.model.ContentBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ContentBlobRepository extends JpaRepository<ContentBlob, String> {
+
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext(:hash))) AS advisory", nativeQuery = true)
+    Integer lock(@Param("hash") String hash);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO content_blobs (hash, size, ref_count, updated_at)
+            VALUES (:hash, :size, 1, now())
+            ON CONFLICT (hash) DO UPDATE
+            SET ref_count = content_blobs.ref_count + 1, updated_at = now()
+            """, nativeQuery = true)
+    void retain(@Param("hash") String hash, @Param("size") long size);
+
+    @Modifying
+    @Query(value = """
+            UPDATE content_blobs
+            SET ref_count = GREATEST(ref_count - 1, 0), updated_at = now()
+            WHERE hash = :hash
+            """, nativeQuery = true)
+    int release(@Param("hash") String hash);
+
+    @Query(value = """
+            SELECT hash FROM content_blobs
+            WHERE ref_count = 0 AND updated_at < :cutoff
+            ORDER BY updated_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<String> findOrphans(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    @Query("SELECT b.hash FROM ContentBlob b WHERE b.hash IN :hashes")
+    List<String> findExistingHashes(@Param("hashes") Collection<String> hashes);
+
+    @Modifying
+    @Query(value = "DELETE FROM content_blobs WHERE hash = :hash AND ref_count = 0 AND updated_at < :cutoff",
+            nativeQuery = true)
+    int deleteOrphan(@Param("hash") String hash, @Param("cutoff") Instant cutoff);
+
+}
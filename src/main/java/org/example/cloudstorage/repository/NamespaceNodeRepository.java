@@ -0,0 +1,161 @@
+package org.example.cloudstorage.repository;
+
+import org.example.cloudstorage.model.NamespaceNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface NamespaceNodeRepository extends JpaRepository<NamespaceNode, Long> {
+
+    Optional<NamespaceNode> findByUserIdAndParentIdAndName(Long userId, Long parentId, String name);
+
+    List<NamespaceNode> findByUserIdAndParentIdOrderByName(Long userId, Long parentId);
+
+    @Query(value = """
+            SELECT * FROM namespace_nodes
+            WHERE user_id = :userId AND parent_id = :parentId AND name > :afterName
+            ORDER BY name
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<NamespaceNode> findChildrenPageByName(@Param("userId") Long userId,
+                                               @Param("parentId") Long parentId,
+                                               @Param("afterName") String afterName,
+                                               @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM namespace_nodes
+            WHERE user_id = :userId AND parent_id = :parentId AND (size, name) > (:afterSize, :afterName)
+            ORDER BY size, name
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<NamespaceNode> findChildrenPageBySize(@Param("userId") Long userId,
+                                               @Param("parentId") Long parentId,
+                                               @Param("afterSize") long afterSize,
+                                               @Param("afterName") String afterName,
+                                               @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM namespace_nodes
+            WHERE user_id = :userId AND parent_id = :parentId AND (NOT directory, name) > (:afterFile, :afterName)
+            ORDER BY NOT directory, name
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<NamespaceNode> findChildrenPageByType(@Param("userId") Long userId,
+                                               @Param("parentId") Long parentId,
+                                               @Param("afterFile") boolean afterFile,
+                                               @Param("afterName") String afterName,
+                                               @Param("limit") int limit);
+
+    @Query(value = """
+            WITH RECURSIVE tree AS (
+                SELECT id, CAST(:prefix || name AS TEXT) AS path
+                FROM namespace_nodes
+                WHERE user_id = :userId AND parent_id = :parentId
+                UNION ALL
+                SELECT child.id, tree.path || child.name
+                FROM namespace_nodes child
+                JOIN tree ON child.user_id = :userId AND child.parent_id = tree.id
+            )
+            SELECT id, path FROM tree
+            ORDER BY path COLLATE "C"
+            """, nativeQuery = true)
+    List<Object[]> findDescendantPaths(@Param("userId") Long userId,
+                                       @Param("parentId") Long parentId,
+                                       @Param("prefix") String prefix);
+
+    @Query(value = """
+            WITH RECURSIVE matches AS (
+                SELECT id, parent_id, name FROM namespace_nodes
+                WHERE user_id = :userId AND lower(name) LIKE :pattern ESCAPE '\\'
+                ORDER BY lower(name) = :query DESC,
+                         lower(name) LIKE :prefix ESCAPE '\\' DESC,
+                         similarity(lower(name), :query) DESC,
+                         name
+                LIMIT :limit
+            ), ancestry AS (
+                SELECT id AS node_id, parent_id AS ancestor_id, CAST(name AS TEXT) AS path FROM matches
+                UNION ALL
+                SELECT ancestry.node_id, parent.parent_id, parent.name || ancestry.path
+                FROM ancestry
+                JOIN namespace_nodes parent ON parent.id = ancestry.ancestor_id
+            )
+            SELECT matches.id, ancestry.path
+            FROM matches
+            JOIN ancestry ON ancestry.node_id = matches.id AND ancestry.ancestor_id = 0
+            ORDER BY lower(matches.name) = :query DESC,
+                     lower(matches.name) LIKE :prefix ESCAPE '\\' DESC,
+                     similarity(lower(matches.name), :query) DESC,
+                     ancestry.path COLLATE "C"
+            """, nativeQuery = true)
+    List<Object[]> search(@Param("userId") Long userId,
+                          @Param("query") String query,
+                          @Param("pattern") String pattern,
+                          @Param("prefix") String prefix,
+                          @Param("limit") int limit);
+
+    long countByUserIdAndDirectoryFalse(Long userId);
+
+    @Query("SELECT COALESCE(SUM(n.size), 0) FROM NamespaceNode n WHERE n.userId = :userId AND n.directory = false")
+    long sumFileSizes(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO namespace_nodes (user_id, parent_id, name, directory, size, blob_hash, last_modified)
+            VALUES (:userId, :parentId, :name, true, 0, NULL, :lastModified)
+            ON CONFLICT (user_id, parent_id, name) DO NOTHING
+            """, nativeQuery = true)
+    void insertFolder(@Param("userId") Long userId,
+                      @Param("parentId") Long parentId,
+                      @Param("name") String name,
+                      @Param("lastModified") Instant lastModified);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO namespace_nodes (user_id, parent_id, name, directory, size, blob_hash, last_modified)
+            VALUES (:userId, :parentId, :name, false, :size, :blobHash, :lastModified)
+            ON CONFLICT (user_id, parent_id, name) DO UPDATE
+            SET size = EXCLUDED.size, blob_hash = EXCLUDED.blob_hash, last_modified = EXCLUDED.last_modified
+            """, nativeQuery = true)
+    void upsertFile(@Param("userId") Long userId,
+                    @Param("parentId") Long parentId,
+                    @Param("name") String name,
+                    @Param("size") long size,
+                    @Param("blobHash") String blobHash,
+                    @Param("lastModified") Instant lastModified);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            WITH RECURSIVE tree AS (
+                SELECT id FROM namespace_nodes WHERE id = :id
+                UNION ALL
+                SELECT child.id
+                FROM namespace_nodes child
+                JOIN tree ON child.user_id = :userId AND child.parent_id = tree.id
+            )
+            DELETE FROM namespace_nodes WHERE id IN (SELECT id FROM tree)
+            """, nativeQuery = true)
+    int deleteSubtree(@Param("userId") Long userId, @Param("id") Long id);
+
+    @Query(value = """
+            WITH RECURSIVE tree AS (
+                SELECT id, CAST(:path AS TEXT) AS path FROM namespace_nodes WHERE id = :id
+                UNION ALL
+                SELECT child.id, tree.path || child.name
+                FROM namespace_nodes child
+                JOIN tree ON child.user_id = :userId AND child.parent_id = tree.id
+            )
+            DELETE FROM namespace_nodes node
+            USING tree
+            WHERE node.id = tree.id
+            RETURNING node.id, tree.path, node.name, node.directory, node.size, node.blob_hash
+            """, nativeQuery = true)
+    List<Object[]> deleteSubtreeReturning(@Param("userId") Long userId,
+                                          @Param("id") Long id,
+                                          @Param("path") String path);
+
+}
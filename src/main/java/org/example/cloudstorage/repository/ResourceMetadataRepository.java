@@ -0,0 +1,127 @@
+package org.example.cloudstorage.repository;
+
+import org.example.cloudstorage.model.ResourceMetadata;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ResourceMetadataRepository extends JpaRepository<ResourceMetadata, Long> {
+
+    List<ResourceMetadata> findByUserIdAndParentPathOrderByPath(Long userId, String parentPath);
+
+    List<ResourceMetadata> findByUserIdAndPathIn(Long userId, Collection<String> paths);
+
+    @Query("SELECT r FROM ResourceMetadata r WHERE r.userId = :userId AND r.path > :from AND r.path < :to ORDER BY r.path")
+    List<ResourceMetadata> findDescendants(@Param("userId") Long userId,
+                                           @Param("from") String from,
+                                           @Param("to") String to);
+
+    @Query(value = """
+            SELECT * FROM resources
+            WHERE user_id = :userId AND parent_path = :parentPath AND path > :afterPath
+            ORDER BY path
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ResourceMetadata> findChildrenPageByName(@Param("userId") Long userId,
+                                                  @Param("parentPath") String parentPath,
+                                                  @Param("afterPath") String afterPath,
+                                                  @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM resources
+            WHERE user_id = :userId AND parent_path = :parentPath AND (size, path) > (:afterSize, :afterPath)
+            ORDER BY size, path
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ResourceMetadata> findChildrenPageBySize(@Param("userId") Long userId,
+                                                  @Param("parentPath") String parentPath,
+                                                  @Param("afterSize") long afterSize,
+                                                  @Param("afterPath") String afterPath,
+                                                  @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM resources
+            WHERE user_id = :userId AND parent_path = :parentPath AND (NOT directory, path) > (:afterFile, :afterPath)
+            ORDER BY NOT directory, path
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ResourceMetadata> findChildrenPageByType(@Param("userId") Long userId,
+                                                  @Param("parentPath") String parentPath,
+                                                  @Param("afterFile") boolean afterFile,
+                                                  @Param("afterPath") String afterPath,
+                                                  @Param("limit") int limit);
+
+    boolean existsByUserIdAndPathGreaterThanEqualAndPathLessThan(Long userId, String from, String to);
+
+    boolean existsByUserId(Long userId);
+
+    long countByUserIdAndDirectoryFalse(Long userId);
+
+    @Query("SELECT COALESCE(SUM(r.size), 0) FROM ResourceMetadata r WHERE r.userId = :userId AND r.directory = false")
+    long sumFileSizes(@Param("userId") Long userId);
+
+    @Query(value = """
+            SELECT * FROM resources
+            WHERE user_id = :userId AND lower(name) LIKE :pattern ESCAPE '\\'
+            ORDER BY lower(name) = :query DESC,
+                     lower(name) LIKE :prefix ESCAPE '\\' DESC,
+                     similarity(lower(name), :query) DESC,
+                     path
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ResourceMetadata> search(@Param("userId") Long userId,
+                                  @Param("query") String query,
+                                  @Param("pattern") String pattern,
+                                  @Param("prefix") String prefix,
+                                  @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO resources (user_id, path, parent_path, name, directory, size, etag, last_modified)
+            VALUES (:userId, :path, :parentPath, :name, :directory, :size, :etag, :lastModified)
+            ON CONFLICT (user_id, path) DO UPDATE
+            SET size = EXCLUDED.size, etag = EXCLUDED.etag, last_modified = EXCLUDED.last_modified
+            """, nativeQuery = true)
+    void upsert(@Param("userId") Long userId,
+                @Param("path") String path,
+                @Param("parentPath") String parentPath,
+                @Param("name") String name,
+                @Param("directory") boolean directory,
+                @Param("size") long size,
+                @Param("etag") String etag,
+                @Param("lastModified") Instant lastModified);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO resources (user_id, path, parent_path, name, directory, size, etag, last_modified)
+            SELECT user_id, :newPath, :parentPath, :name, directory, size, etag, :lastModified
+            FROM resources
+            WHERE user_id = :userId AND path = :currentPath
+            ON CONFLICT (user_id, path) DO UPDATE
+            SET size = EXCLUDED.size, etag = EXCLUDED.etag, last_modified = EXCLUDED.last_modified
+            """, nativeQuery = true)
+    int copy(@Param("userId") Long userId,
+             @Param("currentPath") String currentPath,
+             @Param("newPath") String newPath,
+             @Param("parentPath") String parentPath,
+             @Param("name") String name,
+             @Param("lastModified") Instant lastModified);
+
+    @Modifying
+    @Query("DELETE FROM ResourceMetadata r WHERE r.userId = :userId AND r.path IN :paths")
+    int deleteByPaths(@Param("userId") Long userId, @Param("paths") Collection<String> paths);
+
+    @Modifying
+    @Query("DELETE FROM ResourceMetadata r WHERE r.userId = :userId AND r.path >= :from AND r.path < :to")
+    int deleteRange(@Param("userId") Long userId, @Param("from") String from, @Param("to") String to);
+
+    @Modifying
+    @Query("DELETE FROM ResourceMetadata r WHERE r.userId = :userId")
+    int deleteAllByUser(@Param("userId") Long userId);
+
+}
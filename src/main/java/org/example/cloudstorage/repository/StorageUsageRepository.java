@@ -0,0 +1,37 @@
+package org.example.cloudstorage.repository;
+
+import org.example.cloudstorage.model.StorageUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StorageUsageRepository extends JpaRepository<StorageUsage, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO storage_usage (user_id, used_bytes, file_count)
+            VALUES (:userId, GREATEST(:bytes, 0), GREATEST(:files, 0))
+            ON CONFLICT (user_id) DO UPDATE
+            SET used_bytes = GREATEST(storage_usage.used_bytes + :bytes, 0),
+                file_count = GREATEST(storage_usage.file_count + :files, 0)
+            """, nativeQuery = true)
+    void add(@Param("userId") Long userId, @Param("bytes") long bytes, @Param("files") long files);
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage_usage
+            SET reserved_bytes = reserved_bytes + :bytes
+            WHERE user_id = :userId AND used_bytes + reserved_bytes + :bytes <= :quotaBytes
+            """, nativeQuery = true)
+    int reserve(@Param("userId") Long userId, @Param("bytes") long bytes, @Param("quotaBytes") long quotaBytes);
+
+    @Modifying
+    @Query(value = """
+            UPDATE storage_usage
+            SET reserved_bytes = GREATEST(reserved_bytes - :bytes, 0)
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    void release(@Param("userId") Long userId, @Param("bytes") long bytes);
+
+}
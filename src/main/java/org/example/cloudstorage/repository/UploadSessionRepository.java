@@ -0,0 +1,51 @@
+package org.example.cloudstorage.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.cloudstorage.model.UploadSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UploadSessionRepository {
+
+    private static final String KEY_PREFIX = "cloud-storage:upload-session:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${storage.upload-session.ttl:24h}")
+    private Duration sessionTtl;
+
+    public void save(UploadSession session) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + session.id(), objectMapper.writeValueAsString(session), sessionTtl);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Failed to save upload session " + session.id(), exception);
+        }
+    }
+
+    public Optional<UploadSession> findById(String sessionId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + sessionId);
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(value, UploadSession.class));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Failed to read upload session " + sessionId, exception);
+        }
+    }
+
+    public void delete(String sessionId) {
+        redisTemplate.delete(KEY_PREFIX + sessionId);
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.example.cloudstorage.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+@Getter
+public class UserPrincipal extends User {
+
+    private static final String ERASED_PASSWORD = "";
+
+    private final Long id;
+
+    public UserPrincipal(Long id, String username, String password,
+                         Collection<? extends GrantedAuthority> authorities) {
+        super(username, password != null ? password : ERASED_PASSWORD, authorities);
+        this.id = id;
+    }
+
+}
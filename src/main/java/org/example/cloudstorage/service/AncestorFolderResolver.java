@@ -0,0 +1,84 @@
+package org.example.cloudstorage.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+@Service
+@RequiredArgsConstructor
+public class AncestorFolderResolver {
+
+    private final DirectoryService directoryService;
+    private final ResourceMetadataService resourceMetadataService;
+    private final ExecutorService storageTaskExecutor;
+
+    public Set<String> findMissingFolders(Long id, Collection<String> resourcePaths) {
+        Set<String> missingFolders = new LinkedHashSet<>();
+
+        for (Map<String, String> folders : collectFoldersByDepth(resourcePaths).values()) {
+            List<String> candidates = new ArrayList<>(folders.size());
+            folders.forEach((folder, parent) -> {
+                if (parent != null && missingFolders.contains(parent)) {
+                    missingFolders.add(folder);
+                } else {
+                    candidates.add(folder);
+                }
+            });
+
+            List<Boolean> existence = probe(id, candidates);
+            for (int i = 0; i < candidates.size(); i++) {
+                if (!existence.get(i)) {
+                    missingFolders.add(candidates.get(i));
+                }
+            }
+        }
+        return missingFolders;
+    }
+
+    private NavigableMap<Integer, Map<String, String>> collectFoldersByDepth(Collection<String> resourcePaths) {
+        NavigableMap<Integer, Map<String, String>> foldersByDepth = new TreeMap<>();
+
+        for (String resourcePath : resourcePaths) {
+            String parent = null;
+            int depth = 0;
+            for (int i = 0; i < resourcePath.length(); i++) {
+                if (resourcePath.charAt(i) != '/') {
+                    continue;
+                }
+
+                String folder = resourcePath.substring(0, i + 1);
+                foldersByDepth.computeIfAbsent(++depth, key -> new LinkedHashMap<>()).putIfAbsent(folder, parent);
+                parent = folder;
+            }
+        }
+        return foldersByDepth;
+    }
+
+    private List<Boolean> probe(Long id, List<String> folders) {
+        if (folders.size() <= 1 || resourceMetadataService.isEnabled()) {
+            return folders.stream()
+                    .map(folder -> directoryService.isPathExists(id, folder))
+                    .toList();
+        }
+
+        List<CompletableFuture<Boolean>> probes = folders.stream()
+                .map(folder -> CompletableFuture.supplyAsync(
+                        () -> directoryService.isPathExists(id, folder), storageTaskExecutor))
+                .toList();
+        return probes.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+}
@@ -0,0 +1,168 @@
+package org.example.cloudstorage.service;
+
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.exception.BatchOperationException;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.model.ResourceMetadata;
+import org.example.cloudstorage.model.TraversalMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchDeleteService {
+
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final MinioClientService minioClientService;
+    private final StoragePathService storagePathService;
+    private final ResourceMetadataService resourceMetadataService;
+    private final StorageUsageService storageUsageService;
+    private final ExecutorService storageTaskExecutor;
+
+    @Value("${storage.delete.batch-size:1000}")
+    private int batchSize;
+    @Value("${storage.delete.max-in-flight:4}")
+    private int maxInFlight;
+
+    public void deleteFolder(Long id, String path) {
+        if (resourceMetadataService.isNamespaceEnabled()) {
+            List<ResourceMetadata> files = minioClientService.removeTree(id, path).stream()
+                    .filter(resource -> !resource.isDirectory())
+                    .toList();
+            storageUsageService.recordDelete(id, files.stream().mapToLong(ResourceMetadata::getSize).sum(), files.size());
+            return;
+        }
+
+        Map<String, Long> indexedSizes = getIndexedFileSizes(id, path);
+        Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, path, TraversalMode.RECURSIVE);
+        Iterator<Result<Item>> iterator = minioObjects.iterator();
+        DeletedUsage deletedUsage = new DeletedUsage();
+
+        try {
+            deleteAll(id, new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public DeleteTarget next() {
+                    try {
+                        Item item = iterator.next().get();
+                        String itemPath = storagePathService.deleteRootPath(item.objectName(), id);
+                        return new DeleteTarget(itemPath, indexedSizes.getOrDefault(itemPath, item.size()));
+                    } catch (Exception e) {
+                        throw new MinioOperationException("Failed to list objects for user with id " + id + " and path " + path, e);
+                    }
+                }
+            }, deletedUsage);
+        } finally {
+            storageUsageService.recordDelete(id, deletedUsage.bytes.sum(), deletedUsage.files.sum());
+        }
+        resourceMetadataService.deleteTree(id, path);
+    }
+
+    public void deleteAll(Long id, List<String> paths) {
+        deleteAll(id, paths.stream().map(path -> new DeleteTarget(path, 0L)).iterator(), new DeletedUsage());
+    }
+
+    private void deleteAll(Long id, Iterator<DeleteTarget> targets, DeletedUsage deletedUsage) {
+        int keysPerRequest = Math.min(batchSize, MAX_KEYS_PER_REQUEST);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Queue<String> failedPaths = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+        try {
+            List<DeleteTarget> batch = new ArrayList<>(keysPerRequest);
+            while (targets.hasNext()) {
+                batch.add(targets.next());
+                if (batch.size() == keysPerRequest) {
+                    batches.add(submitBatch(id, batch, inFlight, failedPaths, deletedUsage));
+                    batch = new ArrayList<>(keysPerRequest);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batches.add(submitBatch(id, batch, inFlight, failedPaths, deletedUsage));
+            }
+        } finally {
+            CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+        }
+
+        if (!failedPaths.isEmpty()) {
+            throw new BatchOperationException("Failed to delete some resources", new ArrayList<>(failedPaths));
+        }
+    }
+
+    private CompletableFuture<Void> submitBatch(Long id, List<DeleteTarget> batch, Semaphore inFlight,
+                                                Queue<String> failedPaths, DeletedUsage deletedUsage) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MinioOperationException("Interrupted while deleting objects for user with id " + id, e);
+        }
+
+        List<String> paths = batch.stream().map(DeleteTarget::path).toList();
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Set<String> failedInBatch = new HashSet<>(minioClientService.removeObjects(id, paths));
+                failedPaths.addAll(failedInBatch);
+                batch.stream()
+                        .filter(target -> !failedInBatch.contains(target.path()) && !target.path().endsWith("/"))
+                        .forEach(deletedUsage::add);
+            } catch (MinioOperationException e) {
+                log.warn("Batch delete of {} objects failed for user {}", batch.size(), id, e);
+                failedPaths.addAll(paths);
+            } finally {
+                inFlight.release();
+            }
+        }, storageTaskExecutor);
+    }
+
+    /**
+     * Usage was recorded with the uploaded sizes, which the index keeps; with dedup the listed objects are
+     * empty pointers, so their listing sizes would leave the deleted bytes counted.
+     */
+    private Map<String, Long> getIndexedFileSizes(Long id, String path) {
+        if (!resourceMetadataService.isEnabled()) {
+            return Map.of();
+        }
+        return resourceMetadataService.getDescendants(id, path).stream()
+                .filter(resource -> !resource.isDirectory())
+                .collect(Collectors.toMap(ResourceMetadata::getPath, ResourceMetadata::getSize));
+    }
+
+    private record DeleteTarget(String path, long size) {
+    }
+
+    private static final class DeletedUsage {
+
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder files = new LongAdder();
+
+        private void add(DeleteTarget target) {
+            bytes.add(target.size());
+            files.increment();
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.example.cloudstorage.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.cloudstorage.model.ContentBlob;
+import org.example.cloudstorage.repository.ContentBlobRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class BlobReferenceService {
+
+    private final ContentBlobRepository contentBlobRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void retain(String hash, long size) {
+        contentBlobRepository.lock(hash);
+        contentBlobRepository.retain(hash, size);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String hash) {
+        contentBlobRepository.release(hash);
+    }
+
+    @Transactional(readOnly = true)
+    public Set<String> findExisting(Collection<String> hashes) {
+        if (hashes.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(contentBlobRepository.findExistingHashes(hashes));
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findOrphans(Instant cutoff, int limit) {
+        return contentBlobRepository.findOrphans(cutoff, limit);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean collect(String hash, Instant cutoff, Consumer<String> blobRemover) {
+        contentBlobRepository.lock(hash);
+        if (contentBlobRepository.deleteOrphan(hash, cutoff) == 0) {
+            return false;
+        }
+        blobRemover.accept(hash);
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public long getRefCount(String hash) {
+        return contentBlobRepository.findById(hash)
+                .map(ContentBlob::getRefCount)
+                .orElse(0L);
+    }
+
+}
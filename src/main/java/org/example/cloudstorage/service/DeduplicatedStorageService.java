@@ -0,0 +1,255 @@
+package org.example.cloudstorage.service;
+
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
+import io.minio.GetObjectArgs;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.MinioException;
+import io.minio.messages.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.utils.CountingInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class DeduplicatedStorageService {
+
+    private static final String BLOB_PREFIX = "blobs/sha256/";
+    private static final String STAGING_PREFIX = "blobs/staging/";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String NO_SUCH_KEY = "NoSuchKey";
+    private static final int GC_BATCH_SIZE = 500;
+
+    private final MinioClient minioClient;
+    private final BlobReferenceService blobReferenceService;
+    private final String bucketName;
+    private final boolean enabled;
+    private final Duration gcGracePeriod;
+
+    public DeduplicatedStorageService(MinioClient minioClient,
+                                      BlobReferenceService blobReferenceService,
+                                      @Value("${MINIO_BUCKET_NAME}") String bucketName,
+                                      @Value("${storage.dedup.enabled:false}") boolean enabled,
+                                      @Value("${storage.metadata-index.enabled:false}") boolean metadataIndexEnabled,
+                                      @Value("${storage.dedup.gc-grace:1h}") Duration gcGracePeriod) {
+        if (enabled && !metadataIndexEnabled) {
+            throw new IllegalStateException("storage.dedup.enabled requires storage.metadata-index.enabled");
+        }
+        this.minioClient = minioClient;
+        this.blobReferenceService = blobReferenceService;
+        this.bucketName = bucketName;
+        this.enabled = enabled;
+        this.gcGracePeriod = gcGracePeriod;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public StoredBlob store(InputStream stream, long size, long partSize, String contentType) {
+        String stagingObject = STAGING_PREFIX + UUID.randomUUID();
+        MessageDigest digest = newDigest();
+        CountingInputStream countingStream = new CountingInputStream(new DigestInputStream(stream, digest));
+
+        try {
+            minioClient.putObject(PutObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(stagingObject)
+                    .stream(countingStream, size, partSize)
+                    .contentType(contentType)
+                    .build());
+        } catch (IOException | GeneralSecurityException | MinioException exception) {
+            throw new MinioOperationException("Failed to stage upload " + stagingObject, exception);
+        }
+
+        StoredBlob blob = new StoredBlob(HexFormat.of().formatHex(digest.digest()), countingStream.getCount());
+        try {
+            blobReferenceService.retain(blob.hash(), blob.size());
+            try {
+                if (!isBlobStored(blob.hash())) {
+                    copy(stagingObject, getObjectName(blob.hash()));
+                }
+            } catch (RuntimeException exception) {
+                blobReferenceService.release(blob.hash());
+                throw exception;
+            }
+        } finally {
+            removeQuietly(stagingObject);
+        }
+        return blob;
+    }
+
+    public void retain(String hash, long size) {
+        blobReferenceService.retain(hash, size);
+    }
+
+    public void release(String hash) {
+        blobReferenceService.release(hash);
+    }
+
+    public Set<String> findStoredHashes(Collection<String> hashes) {
+        return blobReferenceService.findExisting(hashes);
+    }
+
+    public InputStream open(String hash, Long offset, Long length) {
+        try {
+            return minioClient.getObject(GetObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(getObjectName(hash))
+                    .offset(offset)
+                    .length(length)
+                    .build());
+        } catch (Exception exception) {
+            throw new MinioOperationException("Failed to read blob " + hash, exception);
+        }
+    }
+
+    public String getObjectName(String hash) {
+        return BLOB_PREFIX + hash.substring(0, 2) + "/" + hash;
+    }
+
+    @Scheduled(cron = "${storage.dedup.gc-cron:-}")
+    public void collectGarbage() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(gcGracePeriod);
+        int collected = 0;
+        int collectedInBatch;
+        List<String> orphans;
+        do {
+            collectedInBatch = 0;
+            orphans = blobReferenceService.findOrphans(cutoff, GC_BATCH_SIZE);
+            for (String hash : orphans) {
+                try {
+                    if (blobReferenceService.collect(hash, cutoff, this::removeBlob)) {
+                        collectedInBatch++;
+                    }
+                } catch (MinioOperationException e) {
+                    log.warn("Failed to collect orphan blob {}", hash, e);
+                }
+            }
+            collected += collectedInBatch;
+        } while (orphans.size() == GC_BATCH_SIZE && collectedInBatch > 0);
+
+        log.info("Collected {} orphan blobs and {} abandoned staging objects", collected, collectStagingObjectsBefore(cutoff));
+    }
+
+    /**
+     * Staged uploads are removed as soon as they are copied into place, so any staging object older than the grace
+     * period was left behind by a crash between the two steps.
+     */
+    public int collectStagingObjectsBefore(Instant cutoff) {
+        int collected = 0;
+        Iterable<Result<Item>> stagingObjects = minioClient.listObjects(ListObjectsArgs.builder()
+                .bucket(bucketName)
+                .prefix(STAGING_PREFIX)
+                .recursive(true)
+                .build());
+
+        for (Result<Item> result : stagingObjects) {
+            try {
+                Item item = result.get();
+                if (item.lastModified().toInstant().isBefore(cutoff) && removeQuietly(item.objectName())) {
+                    collected++;
+                }
+            } catch (IOException | GeneralSecurityException | MinioException exception) {
+                log.warn("Failed to list staging objects", exception);
+                break;
+            }
+        }
+        return collected;
+    }
+
+    private boolean isBlobStored(String hash) {
+        try {
+            minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(getObjectName(hash))
+                    .build());
+            return true;
+        } catch (ErrorResponseException exception) {
+            if (NO_SUCH_KEY.equals(exception.errorResponse().code())) {
+                return false;
+            }
+            throw new MinioOperationException("Failed to stat blob " + hash, exception);
+        } catch (IOException | GeneralSecurityException | MinioException exception) {
+            throw new MinioOperationException("Failed to stat blob " + hash, exception);
+        }
+    }
+
+    private void copy(String sourceObject, String targetObject) {
+        try {
+            minioClient.copyObject(CopyObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(targetObject)
+                    .source(CopySource.builder()
+                            .bucket(bucketName)
+                            .object(sourceObject)
+                            .build())
+                    .build());
+        } catch (IOException | GeneralSecurityException | MinioException exception) {
+            throw new MinioOperationException("Failed to store blob " + targetObject, exception);
+        }
+    }
+
+    private void removeBlob(String hash) {
+        try {
+            minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(getObjectName(hash))
+                    .build());
+        } catch (IOException | GeneralSecurityException | MinioException exception) {
+            throw new MinioOperationException("Failed to remove blob " + hash, exception);
+        }
+    }
+
+    private boolean removeQuietly(String objectName) {
+        try {
+            minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .build());
+            return true;
+        } catch (IOException | GeneralSecurityException | MinioException exception) {
+            log.warn("Failed to remove staged upload {}", objectName, exception);
+            return false;
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not available", exception);
+        }
+    }
+
+    public record StoredBlob(String hash, long size) {
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.example.cloudstorage.service;
+
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.exception.InvalidPathException;
+import org.example.cloudstorage.model.DirectorySort;
+import org.example.cloudstorage.model.ResourceType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+
+record DirectoryCursor(DirectorySort sort, boolean directory, long size, String name) {
+
+    private static final String SEPARATOR = ":";
+    private static final int FIELDS = 4;
+
+    private static final Comparator<DirectoryCursor> BY_NAME =
+            Comparator.comparing(DirectoryCursor::name);
+    private static final Comparator<DirectoryCursor> BY_SIZE =
+            Comparator.comparingLong(DirectoryCursor::size).thenComparing(BY_NAME);
+    private static final Comparator<DirectoryCursor> BY_TYPE =
+            Comparator.comparing((DirectoryCursor cursor) -> !cursor.directory()).thenComparing(BY_NAME);
+
+    static DirectoryCursor first(DirectorySort sort) {
+        return new DirectoryCursor(sort, true, -1, "");
+    }
+
+    static DirectoryCursor of(DirectorySort sort, ResourceResponseDto resource) {
+        long size = resource instanceof FileResponseDto file && file.size() != null ? file.size() : 0;
+        return new DirectoryCursor(sort, resource.type() == ResourceType.DIRECTORY, size, resource.name());
+    }
+
+    static DirectoryCursor decode(String cursor, DirectorySort sort) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = decoded.split(SEPARATOR, FIELDS);
+            if (fields.length != FIELDS || DirectorySort.valueOf(fields[0]) != sort) {
+                throw new InvalidPathException("Invalid cursor");
+            }
+            return new DirectoryCursor(sort, "1".equals(fields[1]), Long.parseLong(fields[2]), fields[3]);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidPathException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String value = sort + SEPARATOR + (directory ? "1" : "0") + SEPARATOR + size + SEPARATOR + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    boolean isFirst() {
+        return name.isEmpty();
+    }
+
+    static Comparator<DirectoryCursor> comparator(DirectorySort sort) {
+        return switch (sort) {
+            case NAME -> BY_NAME;
+            case SIZE -> BY_SIZE;
+            case TYPE -> BY_TYPE;
+        };
+    }
+
+}
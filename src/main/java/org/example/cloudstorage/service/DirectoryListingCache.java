@@ -0,0 +1,85 @@
+package org.example.cloudstorage.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.model.TraversalMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+@Service
+public class DirectoryListingCache {
+
+    private static final String ROOT_PATH = "";
+    private static final String CACHE_NAME = "directory.listing";
+
+    private final Cache<ListingKey, List<ResourceResponseDto>> listings;
+    private final ConcurrentMap<Long, Long> generations = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public DirectoryListingCache(@Value("${storage.listing-cache.enabled:true}") boolean enabled,
+                                 @Value("${storage.listing-cache.ttl:30s}") Duration ttl,
+                                 @Value("${storage.listing-cache.max-resources:200000}") long maxResources,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.listings = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxResources)
+                .weigher((ListingKey key, List<ResourceResponseDto> resources) -> resources.size() + 1)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, listings, CACHE_NAME);
+    }
+
+    public List<ResourceResponseDto> get(Long id, String path, TraversalMode traversalMode,
+                                         Supplier<List<ResourceResponseDto>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return listings.get(key(id, path, traversalMode), key -> List.copyOf(loader.get()));
+    }
+
+    public void invalidate(Long id, String objectPath) {
+        if (!enabled) {
+            return;
+        }
+
+        long generation = generations.getOrDefault(id, 0L);
+        invalidateListings(id, generation, ROOT_PATH);
+        for (int i = 0; i < objectPath.length() - 1; i++) {
+            if (objectPath.charAt(i) == '/') {
+                invalidateListings(id, generation, objectPath.substring(0, i + 1));
+            }
+        }
+    }
+
+    public void invalidateAll(Long id) {
+        if (!enabled) {
+            return;
+        }
+
+        generations.merge(id, 1L, Long::sum);
+    }
+
+    private void invalidateListings(Long id, long generation, String path) {
+        for (TraversalMode traversalMode : TraversalMode.values()) {
+            listings.invalidate(new ListingKey(id, generation, path, traversalMode));
+        }
+    }
+
+    private ListingKey key(Long id, String path, TraversalMode traversalMode) {
+        return new ListingKey(id, generations.getOrDefault(id, 0L), path, traversalMode);
+    }
+
+    private record ListingKey(Long userId, long generation, String path, TraversalMode traversalMode) {
+    }
+
+}
@@ -0,0 +1,113 @@
+package org.example.cloudstorage.service;
+
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.RequiredArgsConstructor;
+import org.example.cloudstorage.dto.resourceResponseDto.DirectoryPageResponseDto;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.exception.InvalidPathException;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.exception.ResourceNotFoundException;
+import org.example.cloudstorage.mapper.FileSystemMapper;
+import org.example.cloudstorage.model.DirectorySort;
+import org.example.cloudstorage.model.TraversalMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.example.cloudstorage.validation.PathAndNameValidator.isPathValid;
+
+@Service
+@RequiredArgsConstructor
+public class DirectoryPageService {
+
+    private final MinioClientService minioClientService;
+    private final DirectoryService directoryService;
+    private final ResourceMetadataService resourceMetadataService;
+    private final StoragePathService storagePathService;
+    private final FileSystemMapper fileSystemMapper;
+
+    @Value("${storage.listing.page.default-limit:100}")
+    private int defaultLimit;
+
+    public DirectoryPageResponseDto getPage(Long id, String path, Integer limit, String cursor, DirectorySort sort) {
+        if (!isPathValid(path)) {
+            throw new InvalidPathException("Invalid path");
+        }
+        DirectorySort pageSort = sort == null ? DirectorySort.NAME : sort;
+        int pageLimit = limit == null ? defaultLimit : limit;
+        DirectoryCursor after = cursor == null || cursor.isEmpty()
+                ? DirectoryCursor.first(pageSort)
+                : DirectoryCursor.decode(cursor, pageSort);
+
+        if (!directoryService.isPathExists(id, path)) {
+            throw new ResourceNotFoundException("Folder with this name not found");
+        }
+
+        List<ResourceResponseDto> resources;
+        if (resourceMetadataService.isEnabled()) {
+            resources = getPageFromIndex(id, path, after, pageLimit + 1);
+        } else if (pageSort == DirectorySort.NAME) {
+            resources = getPageFromMinio(id, path, after, pageLimit + 1);
+        } else {
+            resources = getSortedPage(id, path, after, pageLimit + 1);
+        }
+        return toPage(resources, pageSort, pageLimit);
+    }
+
+    private List<ResourceResponseDto> getPageFromIndex(Long id, String path, DirectoryCursor after, int limit) {
+        return resourceMetadataService.getChildrenPage(id, path, after.sort(), after.directory(), after.size(),
+                        after.name(), limit)
+                .stream()
+                .map(resource -> fileSystemMapper.metadataToDto(resource, path))
+                .toList();
+    }
+
+    private List<ResourceResponseDto> getPageFromMinio(Long id, String path, DirectoryCursor after, int limit) {
+        String folderPath = storagePathService.buildRootPath(id) + path;
+        Iterable<Result<Item>> minioObjects = minioClientService.getListObjectsAfter(id, path, after.name(), limit);
+        List<ResourceResponseDto> resources = new ArrayList<>(limit);
+
+        try {
+            for (Result<Item> minioObject : minioObjects) {
+                Item item = minioObject.get();
+                String name = item.objectName().substring(folderPath.length());
+                if (name.isEmpty() || name.compareTo(after.name()) <= 0) {
+                    continue;
+                }
+                resources.add(fileSystemMapper.itemToDto(item, path));
+                if (resources.size() == limit) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            throw new MinioOperationException("Failed to list page from MinIO for user with id " + id + " and path " + path, e);
+        }
+        return resources;
+    }
+
+    private List<ResourceResponseDto> getSortedPage(Long id, String path, DirectoryCursor after, int limit) {
+        Comparator<DirectoryCursor> comparator = DirectoryCursor.comparator(after.sort());
+
+        return directoryService.getDirectory(id, path, TraversalMode.NON_RECURSIVE).stream()
+                .filter(resource -> after.isFirst()
+                        || comparator.compare(DirectoryCursor.of(after.sort(), resource), after) > 0)
+                .sorted(Comparator.comparing(resource -> DirectoryCursor.of(after.sort(), resource), comparator))
+                .limit(limit)
+                .toList();
+    }
+
+    private DirectoryPageResponseDto toPage(List<ResourceResponseDto> resources, DirectorySort sort, int limit) {
+        if (resources.size() <= limit) {
+            return new DirectoryPageResponseDto(resources, null);
+        }
+
+        List<ResourceResponseDto> page = resources.subList(0, limit);
+        String nextCursor = DirectoryCursor.of(sort, page.get(limit - 1)).encode();
+        return new DirectoryPageResponseDto(List.copyOf(page), nextCursor);
+    }
+
+}
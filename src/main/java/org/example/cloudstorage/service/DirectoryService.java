@@ -10,12 +10,14 @@ import org.example.cloudstorage.exception.MinioOperationException;
 import org.example.cloudstorage.exception.ResourceExistsException;
 import org.example.cloudstorage.exception.ResourceNotFoundException;
 import org.example.cloudstorage.mapper.FileSystemMapper;
+import org.example.cloudstorage.model.ResourceMetadata;
 import org.example.cloudstorage.model.ResourceType;
 import org.example.cloudstorage.model.TraversalMode;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.example.cloudstorage.utils.PathUtils.extractParentPath;
@@ -31,6 +33,8 @@ public class DirectoryService {
     private final MinioClientService minioClientService;
     private final StoragePathService storagePathService;
     private final FileSystemMapper fileSystemMapper;
+    private final ResourceMetadataService resourceMetadataService;
+    private final DirectoryListingCache directoryListingCache;
 
     public void createRootDirectory(Long id) {
         minioClientService.putRootDirectory(id);
@@ -43,7 +47,7 @@ public class DirectoryService {
 
         String parentPath = extractParentPath(path);
 
-        if (!minioClientService.isPathExists(id, parentPath)) {
+        if (!isPathExists(id, parentPath)) {
             throw new ResourceNotFoundException("Parent path not found.");
         }
 
@@ -63,15 +67,14 @@ public class DirectoryService {
             throw new InvalidPathException("Invalid path");
         }
 
-        if (minioClientService.isPathExists(id, path)) {
-            Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, path, traversalMode);
-            List<Item> items = extractAndFilterItemsFromMinio(minioObjects, id, path);
-            return items.stream()
-                    .map(item -> fileSystemMapper.itemToDto(item, path))
-                    .collect(Collectors.toList());
-        }
+        return directoryListingCache.get(id, path, traversalMode, () -> loadDirectory(id, path, traversalMode));
+    }
 
-        throw new ResourceNotFoundException("Folder with this name not found");
+    public boolean isPathExists(Long id, String path) {
+        if (resourceMetadataService.isEnabled()) {
+            return resourceMetadataService.isPathExists(id, path);
+        }
+        return minioClientService.isPathExists(id, path);
     }
 
     public boolean isFolderExists(Long id, String folderName, String parentPath) {
@@ -86,6 +89,49 @@ public class DirectoryService {
         return false;
     }
 
+    public void createParentFolders(Long id, String fullFilePath, Set<String> knownFolders) {
+        for (int i = 0; i < fullFilePath.length(); i++) {
+            if (fullFilePath.charAt(i) != '/') {
+                continue;
+            }
+
+            String folderPath = fullFilePath.substring(0, i + 1);
+            if (!knownFolders.add(folderPath) || isPathExists(id, folderPath)) {
+                continue;
+            }
+            minioClientService.putDirectory(id, folderPath);
+        }
+    }
+
+    private List<ResourceResponseDto> loadDirectory(Long id, String path, TraversalMode traversalMode) {
+        if (resourceMetadataService.isEnabled()) {
+            return getDirectoryFromIndex(id, path, traversalMode);
+        }
+
+        if (isPathExists(id, path)) {
+            Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, path, traversalMode);
+            List<Item> items = extractAndFilterItemsFromMinio(minioObjects, id, path);
+            return items.stream()
+                    .map(item -> fileSystemMapper.itemToDto(item, path))
+                    .collect(Collectors.toList());
+        }
+
+        throw new ResourceNotFoundException("Folder with this name not found");
+    }
+
+    private List<ResourceResponseDto> getDirectoryFromIndex(Long id, String path, TraversalMode traversalMode) {
+        if (!resourceMetadataService.isPathExists(id, path)) {
+            throw new ResourceNotFoundException("Folder with this name not found");
+        }
+
+        List<ResourceMetadata> resources = traversalMode == TraversalMode.RECURSIVE
+                ? resourceMetadataService.getDescendants(id, path)
+                : resourceMetadataService.getChildren(id, path);
+        return resources.stream()
+                .map(resource -> fileSystemMapper.metadataToDto(resource, path))
+                .collect(Collectors.toList());
+    }
+
     public List<Item> extractAndFilterItemsFromMinio(Iterable<Result<Item>> minioObjects, Long id, String path) {
         List<Item> successfulItems = new ArrayList<>();
         try {
@@ -0,0 +1,192 @@
+package org.example.cloudstorage.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.exception.BatchOperationException;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.model.TraversalMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class FolderMoveService {
+
+    private final MinioClientService minioClientService;
+    private final DirectoryService directoryService;
+    private final StoragePathService storagePathService;
+    private final BatchDeleteService batchDeleteService;
+    private final ResourceMetadataService resourceMetadataService;
+    private final AncestorFolderResolver ancestorFolderResolver;
+    private final ExecutorService storageMoveExecutor;
+
+    private final Counter movedObjects;
+    private final Counter movedBytes;
+    private final Counter failedObjects;
+    private final Timer moveTimer;
+    private final AtomicLong pendingObjects = new AtomicLong();
+
+    public FolderMoveService(MinioClientService minioClientService,
+                             DirectoryService directoryService,
+                             StoragePathService storagePathService,
+                             BatchDeleteService batchDeleteService,
+                             ResourceMetadataService resourceMetadataService,
+                             AncestorFolderResolver ancestorFolderResolver,
+                             @Qualifier("storageMoveExecutor") ExecutorService storageMoveExecutor,
+                             MeterRegistry meterRegistry) {
+        this.minioClientService = minioClientService;
+        this.directoryService = directoryService;
+        this.storagePathService = storagePathService;
+        this.batchDeleteService = batchDeleteService;
+        this.resourceMetadataService = resourceMetadataService;
+        this.ancestorFolderResolver = ancestorFolderResolver;
+        this.storageMoveExecutor = storageMoveExecutor;
+
+        this.movedObjects = Counter.builder("storage.move.objects")
+                .description("Objects copied by folder moves")
+                .register(meterRegistry);
+        this.movedBytes = Counter.builder("storage.move.bytes")
+                .description("Bytes copied by folder moves")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.failedObjects = Counter.builder("storage.move.failures")
+                .description("Objects that failed to copy during folder moves")
+                .register(meterRegistry);
+        this.moveTimer = Timer.builder("storage.move.duration")
+                .description("Duration of folder moves")
+                .register(meterRegistry);
+        meterRegistry.gauge("storage.move.pending.objects", pendingObjects);
+    }
+
+    public void moveFolder(Long id, String currentPath, String newPath) {
+        moveTimer.record(() -> move(id, currentPath, newPath));
+    }
+
+    private void move(Long id, String currentPath, String newPath) {
+        if (resourceMetadataService.isNamespaceEnabled()) {
+            minioClientService.moveTree(id, currentPath, newPath);
+            return;
+        }
+
+        Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, currentPath, TraversalMode.RECURSIVE);
+        List<Item> items = directoryService.extractAndFilterItemsFromMinio(minioObjects, id, currentPath);
+
+        if (items.isEmpty()) {
+            minioClientService.putDirectory(id, newPath);
+            batchDeleteService.deleteAll(id, List.of(currentPath));
+            return;
+        }
+
+        List<String> sourcePaths = copyObjects(id, currentPath, newPath, items);
+
+        sourcePaths.add(currentPath);
+        batchDeleteService.deleteAll(id, sourcePaths);
+        resourceMetadataService.deleteTree(id, currentPath);
+    }
+
+    private void createFolders(Long id, Set<String> folders, Queue<String> createdPaths) {
+        List<CompletableFuture<Void>> tasks = folders.stream()
+                .map(folder -> CompletableFuture.runAsync(() -> {
+                    minioClientService.putDirectory(id, folder);
+                    createdPaths.add(folder);
+                }, storageMoveExecutor))
+                .toList();
+        await(tasks);
+    }
+
+    private List<String> copyObjects(Long id, String currentPath, String newPath, List<Item> items) {
+        Queue<String> failedPaths = new ConcurrentLinkedQueue<>();
+        Queue<String> createdPaths = new ConcurrentLinkedQueue<>();
+        List<String> sourcePaths = new ArrayList<>(items.size() + 1);
+        List<String> targetPaths = new ArrayList<>(items.size());
+        List<CompletableFuture<Void>> copies = new ArrayList<>(items.size());
+
+        for (Item item : items) {
+            String relativeResourcePath = storagePathService.buildRelativePathFromMinioItem(item, currentPath, id);
+            sourcePaths.add(currentPath + relativeResourcePath);
+            targetPaths.add(newPath + relativeResourcePath);
+        }
+
+        try {
+            createFolders(id, ancestorFolderResolver.findMissingFolders(id, targetPaths), createdPaths);
+        } catch (RuntimeException e) {
+            rollback(id, createdPaths);
+            throw e;
+        }
+
+        pendingObjects.addAndGet(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            String fullCurrentPath = sourcePaths.get(i);
+            String fullNewPath = targetPaths.get(i);
+
+            copies.add(CompletableFuture.runAsync(() -> {
+                try {
+                    minioClientService.copyObject(id, fullCurrentPath, fullNewPath);
+                    createdPaths.add(fullNewPath);
+                    movedObjects.increment();
+                    movedBytes.increment(item.size());
+                } catch (MinioOperationException e) {
+                    log.warn("Failed to copy {} to {} for user {}", fullCurrentPath, fullNewPath, id, e);
+                    failedObjects.increment();
+                    failedPaths.add(fullCurrentPath);
+                } finally {
+                    pendingObjects.decrementAndGet();
+                }
+            }, storageMoveExecutor));
+        }
+
+        try {
+            await(copies);
+        } catch (RuntimeException e) {
+            rollback(id, createdPaths);
+            throw e;
+        }
+        if (!failedPaths.isEmpty()) {
+            rollback(id, createdPaths);
+            throw new BatchOperationException("Failed to move some resources", new ArrayList<>(failedPaths));
+        }
+        return sourcePaths;
+    }
+
+    /**
+     * Removes what a failed move already wrote to the destination, so the source stays the only copy.
+     * Rollback failures are logged and do not mask the original error.
+     */
+    private void rollback(Long id, Queue<String> createdPaths) {
+        if (createdPaths.isEmpty()) {
+            return;
+        }
+        try {
+            batchDeleteService.deleteAll(id, new ArrayList<>(createdPaths));
+        } catch (RuntimeException e) {
+            log.warn("Failed to roll back {} copied resources for user {}", createdPaths.size(), id, e);
+        }
+    }
+
+    private void await(List<CompletableFuture<Void>> tasks) {
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.example.cloudstorage.service;
+
+import io.minio.Result;
+import io.minio.StatObjectResponse;
+import io.minio.messages.Item;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.model.ResourceMetadata;
+import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.repository.UserRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.example.cloudstorage.utils.PathUtils.extractParentPath;
+import static org.example.cloudstorage.utils.PathUtils.extractResourceName;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetadataIndexInitializer implements SmartInitializingSingleton {
+
+    private static final String ROOT_PATH = "";
+    private static final long EMPTY_FOLDER_SIZE = 0L;
+
+    private final MinioClientService minioClientService;
+    private final StoragePathService storagePathService;
+    private final ResourceMetadataService resourceMetadataService;
+    private final DirectoryListingCache directoryListingCache;
+    private final UserRepository userRepository;
+    private final DeduplicatedStorageService deduplicatedStorageService;
+
+    @Value("${storage.metadata-index.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    /**
+     * Runs once all beans exist but before the web server starts, so the wipe-and-replace rebuild
+     * cannot race with uploads, deletes or folder creation.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!resourceMetadataService.isEnabled() || !rebuildOnStartup) {
+            return;
+        }
+        if (resourceMetadataService.isNamespaceEnabled()) {
+            log.warn("Skipping metadata index rebuild: the namespace tree is the source of truth");
+            return;
+        }
+        for (Long id : userRepository.findAllIds()) {
+            try {
+                rebuild(id);
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild metadata index for user {}", id, e);
+            }
+        }
+    }
+
+    public void rebuild(Long id) {
+        Map<String, ResourceMetadata> resources = new LinkedHashMap<>();
+        Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, ROOT_PATH, TraversalMode.RECURSIVE);
+
+        try {
+            for (Result<Item> minioObject : minioObjects) {
+                Item item = minioObject.get();
+                String path = storagePathService.deleteRootPath(item.objectName(), id);
+                if (path.isEmpty()) {
+                    continue;
+                }
+
+                addParentFolders(id, path, resources);
+                resources.put(path, toMetadata(id, path, item));
+            }
+        } catch (Exception e) {
+            throw new MinioOperationException("Failed to rebuild metadata index for user with id " + id, e);
+        }
+
+        resourceMetadataService.replaceAll(id, List.copyOf(resources.values()));
+        directoryListingCache.invalidateAll(id);
+        log.info("Metadata index rebuilt for user {}: {} resources", id, resources.size());
+    }
+
+    private void addParentFolders(Long id, String path, Map<String, ResourceMetadata> resources) {
+        for (int i = 0; i < path.length() - 1; i++) {
+            if (path.charAt(i) == '/') {
+                String folderPath = path.substring(0, i + 1);
+                resources.computeIfAbsent(folderPath, folder -> folderMetadata(id, folder, Instant.now()));
+            }
+        }
+    }
+
+    private ResourceMetadata toMetadata(Long id, String path, Item item) {
+        Instant lastModified = item.lastModified() != null ? item.lastModified().toInstant() : Instant.now();
+        if (path.endsWith("/")) {
+            return folderMetadata(id, path, lastModified);
+        }
+        long size = item.size();
+        String etag = item.etag();
+        if (size == EMPTY_FOLDER_SIZE && deduplicatedStorageService.isEnabled()) {
+            Optional<StatObjectResponse> stat = minioClientService.statObject(id, path);
+            if (stat.isPresent()) {
+                size = stat.get().size();
+                etag = stat.get().etag();
+            }
+        }
+        return new ResourceMetadata(null, id, path, extractParentPath(path), extractResourceName(path, false),
+                false, size, etag != null ? etag.replace("\"", "") : null, lastModified);
+    }
+
+    private ResourceMetadata folderMetadata(Long id, String path, Instant lastModified) {
+        return new ResourceMetadata(null, id, path, extractParentPath(path), extractResourceName(path, true),
+                true, EMPTY_FOLDER_SIZE, null, lastModified);
+    }
+
+}
@@ -1,12 +1,23 @@
 package org.example.cloudstorage.service;
 
 import io.minio.*;
+import io.minio.errors.ErrorResponseException;
 import io.minio.errors.MinioException;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import io.minio.messages.Item;
+import io.minio.messages.Part;
+import io.minio.messages.Upload;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Headers;
 import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.exception.ResourceModifiedException;
+import org.example.cloudstorage.model.ResourceMetadata;
 import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.utils.CountingInputStream;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -14,42 +25,525 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MinioClientService {
 
     private final MinioClient minioClient;
+    private final MinioMultipartClient minioMultipartClient;
     private final StoragePathService storagePathService;
+    private final ResourceMetadataService resourceMetadataService;
+    private final DirectoryListingCache directoryListingCache;
+    private final ObjectMetadataCache objectMetadataCache;
+    private final DeduplicatedStorageService deduplicatedStorageService;
+    private final StorageOperationMetrics storageOperationMetrics;
 
     private static final ByteArrayInputStream EMPTY_STREAM = new ByteArrayInputStream(new byte[]{});
     private static final Long EMPTY_FOLDER_SIZE = 0L;
     private static final int AUTO_PART_SIZE = -1;
+    private static final long UNKNOWN_OBJECT_SIZE = -1;
     private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final String NO_SUCH_KEY = "NoSuchKey";
+    private static final String PRECONDITION_FAILED = "PreconditionFailed";
+    private static final String BLOB_METADATA = "blob";
+    private static final String BLOB_SIZE_METADATA = "blob-size";
+    private static final String BLOB_HEADER = "x-amz-meta-" + BLOB_METADATA;
+    private static final String BLOB_SIZE_HEADER = "x-amz-meta-" + BLOB_SIZE_METADATA;
     @Value("${MINIO_BUCKET_NAME}")
     private String bucketName;
+    @Value("${storage.upload.part-size:10485760}")
+    private long streamPartSize;
 
     public void putRootDirectory(Long id) {
+        storageOperationMetrics.record("putRootDirectory", () -> {
+            try {
+                minioClient.putObject(
+                        PutObjectArgs.builder()
+                                .bucket(bucketName)
+                                .object(storagePathService.buildRootPath(id))
+                                .stream(EMPTY_STREAM, EMPTY_FOLDER_SIZE, AUTO_PART_SIZE)
+                                .contentType(DEFAULT_CONTENT_TYPE)
+                                .build()
+                );
+            } catch (IOException | GeneralSecurityException | MinioException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to create root directory '%s' for user %d in bucket '%s'",
+                                storagePathService.buildRootPath(id), id, bucketName), exception
+                );
+            }
+            objectMetadataCache.invalidate(id, "");
+        });
+    }
+
+    public void putDirectory(Long id, String path) {
+        if (!resourceMetadataService.isNamespaceEnabled()) {
+            storageOperationMetrics.record("putDirectory", () -> putFolderMarker(id, path));
+        }
+        resourceMetadataService.saveFolder(id, path);
+        invalidateCaches(id, path);
+    }
+
+    public void putFile(Long id, String path, MultipartFile file) {
+        storageOperationMetrics.record("putFile", () -> {
+            if (deduplicatedStorageService.isEnabled()) {
+                putDeduplicated(id, path + file.getOriginalFilename(), getInputStream(file), file.getSize(),
+                        AUTO_PART_SIZE, file.getContentType());
+                return;
+            }
+
+            ObjectWriteResponse response;
+            try {
+                response = minioClient.putObject(
+                        PutObjectArgs.builder()
+                                .bucket(bucketName)
+                                .object(storagePathService.buildRootPath(id) + path + file.getOriginalFilename())
+                                .stream(file.getInputStream(), file.getSize(), AUTO_PART_SIZE)
+                                .contentType(file.getContentType())
+                                .build()
+                );
+            } catch (IOException | GeneralSecurityException | MinioException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to create file in path: %s for user %d in bucket '%s'",
+                                storagePathService.buildRootPath(id) + path + file.getOriginalFilename(), id, bucketName), exception
+                );
+            }
+            storageOperationMetrics.recordUpload(file.getSize());
+            resourceMetadataService.saveFile(id, path + file.getOriginalFilename(), file.getSize(), response.etag());
+            invalidateCaches(id, path + file.getOriginalFilename());
+        });
+    }
+
+    public void putStream(Long id, String path, InputStream stream, String contentType) {
+        storageOperationMetrics.record("putStream", () -> {
+            if (deduplicatedStorageService.isEnabled()) {
+                putDeduplicated(id, path, stream, UNKNOWN_OBJECT_SIZE, streamPartSize, contentType);
+                return;
+            }
+
+            CountingInputStream countingStream = new CountingInputStream(stream);
+            ObjectWriteResponse response;
+            try {
+                response = minioClient.putObject(
+                        PutObjectArgs.builder()
+                                .bucket(bucketName)
+                                .object(storagePathService.buildRootPath(id) + path)
+                                .stream(countingStream, UNKNOWN_OBJECT_SIZE, streamPartSize)
+                                .contentType(contentType != null ? contentType : DEFAULT_CONTENT_TYPE)
+                                .build()
+                );
+            } catch (IOException | GeneralSecurityException | MinioException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to stream file to path: %s for user %d in bucket '%s'",
+                                storagePathService.buildRootPath(id) + path, id, bucketName), exception
+                );
+            }
+            storageOperationMetrics.recordUpload(countingStream.getCount());
+            resourceMetadataService.saveFile(id, path, countingStream.getCount(), response.etag());
+            invalidateCaches(id, path);
+        });
+    }
+
+    public Iterable<Result<Item>> getListObjects(Long id, String path, TraversalMode traversalMode) {
+        boolean searchType = (TraversalMode.RECURSIVE == traversalMode);
+
+        return storageOperationMetrics.recordListing("listObjects", traversalMode,
+                minioClient.listObjects(ListObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .prefix(storagePathService.buildRootPath(id) + path)
+                        .recursive(searchType)
+                        .build()));
+    }
+
+    public Iterable<Result<Item>> getListObjectsAfter(Long id, String path, String startAfter, int maxKeys) {
+        String prefix = storagePathService.buildRootPath(id) + path;
+
+        return storageOperationMetrics.recordListing("listObjectsAfter", TraversalMode.NON_RECURSIVE,
+                minioClient.listObjects(ListObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .prefix(prefix)
+                        .startAfter(prefix + startAfter)
+                        .maxKeys(maxKeys)
+                        .build()));
+    }
+
+    public List<ResourceMetadata> removeTree(Long id, String path) {
+        List<ResourceMetadata> resources = resourceMetadataService.removeTree(id, path);
+        invalidateAllCaches(id);
+        resources.stream()
+                .map(ResourceMetadata::getEtag)
+                .filter(Objects::nonNull)
+                .forEach(deduplicatedStorageService::release);
+        return resources;
+    }
+
+    public void moveTree(Long id, String currentPath, String newPath) {
+        resourceMetadataService.move(id, currentPath, newPath);
+        invalidateAllCaches(id);
+    }
+
+    public Optional<StatObjectResponse> statObject(Long id, String path) {
+        return objectMetadataCache.getStat(id, path, () -> loadStat(id, path));
+    }
+
+    public Optional<StatObjectResponse> statObjectUncached(Long id, String path) {
+        return loadStat(id, path);
+    }
+
+    public void removeObject(Long id, String path) {
+        Optional<String> blobHash = findBlobHash(id, path);
+        if (!resourceMetadataService.isNamespaceEnabled()) {
+            storageOperationMetrics.record("removeObject", () -> {
+                try {
+                    minioClient.removeObject(
+                            RemoveObjectArgs.builder()
+                                    .bucket(bucketName)
+                                    .object(storagePathService.buildRootPath(id) + path)
+                                    .build());
+                } catch (IOException | GeneralSecurityException | MinioException exception) {
+                    throw new MinioOperationException(
+                            String.format("Failed to delete object in path: %s for user %d in bucket '%s'",
+                                    storagePathService.buildRootPath(id), id, bucketName), exception
+                    );
+                }
+            });
+        }
+        resourceMetadataService.delete(id, List.of(path));
+        invalidateCaches(id, path);
+        blobHash.ifPresent(deduplicatedStorageService::release);
+    }
+
+    public List<String> removeObjects(Long id, List<String> paths) {
+        Map<String, String> blobHashes = findBlobHashes(id, paths);
+        List<String> failedPaths = resourceMetadataService.isNamespaceEnabled()
+                ? List.of()
+                : storageOperationMetrics.record("removeObjects", () -> removeStoredObjects(id, paths));
+
+        List<String> deletedPaths = new ArrayList<>(paths);
+        deletedPaths.removeAll(failedPaths);
+        resourceMetadataService.delete(id, deletedPaths);
+        deletedPaths.forEach(path -> invalidateCaches(id, path));
+        deletedPaths.stream()
+                .map(blobHashes::get)
+                .filter(Objects::nonNull)
+                .forEach(deduplicatedStorageService::release);
+        return failedPaths;
+    }
+
+    public InputStream getObject(Long id, String path) {
+        Optional<String> blobHash = findBlobHash(id, path);
+        return storageOperationMetrics.trackDownload(storageOperationMetrics.record("getObject", () -> {
+            if (blobHash.isPresent()) {
+                return deduplicatedStorageService.open(blobHash.get(), null, null);
+            }
+
+            try {
+                return minioClient.getObject(
+                        GetObjectArgs.builder()
+                                .bucket(bucketName)
+                                .object(storagePathService.buildRootPath(id) + path)
+                                .build()
+                );
+            } catch (Exception exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to find object in path: %s for user %d in bucket '%s'",
+                                storagePathService.buildRootPath(id), id, bucketName), exception
+                );
+            }
+        }));
+    }
+
+    /**
+     * Reads the exact version described by {@code stat}: blobs are content-addressed by the hash in the stat, plain
+     * objects are fetched with If-Match on its ETag. A null offset and length read the whole object.
+     */
+    public InputStream getObject(Long id, String path, StatObjectResponse stat, Long offset, Long length) {
+        String operation = offset == null ? "getObject" : "getObjectRange";
+        return storageOperationMetrics.trackDownload(storageOperationMetrics.record(operation, () -> {
+            String blobHash = getBlobHash(stat);
+            if (blobHash != null) {
+                return deduplicatedStorageService.open(blobHash, offset, length);
+            }
+
+            try {
+                return minioClient.getObject(
+                        GetObjectArgs.builder()
+                                .bucket(bucketName)
+                                .object(storagePathService.buildRootPath(id) + path)
+                                .offset(offset)
+                                .length(length)
+                                .matchETag(stat.etag())
+                                .build()
+                );
+            } catch (ErrorResponseException exception) {
+                if (PRECONDITION_FAILED.equals(exception.errorResponse().code())) {
+                    throw new ResourceModifiedException("File changed while it was being read, retry the download", exception);
+                }
+                throw new MinioOperationException(
+                        String.format("Failed to read object in path: %s for user %d in bucket '%s'",
+                                path, id, bucketName), exception
+                );
+            } catch (Exception exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to read object in path: %s for user %d in bucket '%s'",
+                                path, id, bucketName), exception
+                );
+            }
+        }));
+    }
+
+    public boolean isPathExists(Long id, String path) {
+        return objectMetadataCache.isPathExists(id, path, () -> storageOperationMetrics.record("isPathExists", () -> {
+            Iterable<Result<Item>> results = minioClient.listObjects(ListObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .prefix(storagePathService.buildRootPath(id) + path)
+                    .build()
+            );
+            return results.iterator().hasNext();
+        }));
+    }
+
+    public void copyObject(Long id, String currentPath, String newPath) {
+        Optional<StatObjectResponse> blobPointer = findBlobPointer(id, currentPath);
+        if (!resourceMetadataService.isNamespaceEnabled()) {
+            storageOperationMetrics.record("copyObject", () -> {
+                try {
+                    minioClient.copyObject(
+                            CopyObjectArgs.builder()
+                                    .bucket(bucketName)
+                                    .object(storagePathService.buildRootPath(id) + newPath)
+                                    .source(
+                                            CopySource.builder()
+                                                    .bucket(bucketName)
+                                                    .object(storagePathService.buildRootPath(id) + currentPath)
+                                                    .build())
+                                    .build());
+                } catch (Exception exception) {
+                    throw new MinioOperationException(
+                            String.format("Failed to copy object from current path: %s to new path: %s for user %d in bucket '%s'",
+                                    currentPath, newPath, id, bucketName), exception
+                    );
+                }
+            });
+        }
+
+        blobPointer.ifPresent(pointer -> deduplicatedStorageService.retain(getBlobHash(pointer), pointer.size()));
+
+        invalidateCaches(id, newPath);
+        if (resourceMetadataService.copy(id, currentPath, newPath)) {
+            return;
+        }
+        if (newPath.endsWith("/")) {
+            resourceMetadataService.saveFolder(id, newPath);
+        } else {
+            saveFileMetadata(id, newPath);
+        }
+    }
+
+    public String createMultipartUpload(Long id, String path, String contentType) {
+        return storageOperationMetrics.record("createMultipartUpload", () -> {
+            try {
+                return minioMultipartClient.createMultipartUpload(
+                        bucketName,
+                        storagePathService.buildRootPath(id) + path,
+                        contentType != null ? contentType : DEFAULT_CONTENT_TYPE
+                );
+            } catch (IOException | GeneralSecurityException | MinioException | ExecutionException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to create multipart upload in path: %s for user %d in bucket '%s'",
+                                path, id, bucketName), exception
+                );
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new MinioOperationException("Interrupted while creating multipart upload for user " + id, exception);
+            }
+        });
+    }
+
+    public String uploadPart(Long id, String path, String uploadId, int partNumber, InputStream data, long size) {
+        return storageOperationMetrics.record("uploadPart", () -> {
+            try {
+                String etag = minioMultipartClient.uploadPart(
+                        bucketName, storagePathService.buildRootPath(id) + path, uploadId, partNumber, data, size);
+                storageOperationMetrics.recordUpload(size);
+                return etag;
+            } catch (IOException | GeneralSecurityException | MinioException | ExecutionException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to upload part %d in path: %s for user %d in bucket '%s'",
+                                partNumber, path, id, bucketName), exception
+                );
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new MinioOperationException("Interrupted while uploading part for user " + id, exception);
+            }
+        });
+    }
+
+    public List<Part> listParts(Long id, String path, String uploadId) {
+        return storageOperationMetrics.record("listParts", () -> {
+            try {
+                return minioMultipartClient.listParts(bucketName, storagePathService.buildRootPath(id) + path, uploadId);
+            } catch (IOException | GeneralSecurityException | MinioException | ExecutionException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to list uploaded parts in path: %s for user %d in bucket '%s'",
+                                path, id, bucketName), exception
+                );
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new MinioOperationException("Interrupted while listing parts for user " + id, exception);
+            }
+        });
+    }
+
+    public void completeMultipartUpload(Long id, String path, String uploadId, List<Part> parts) {
+        storageOperationMetrics.record("completeMultipartUpload", () -> {
+            try {
+                minioMultipartClient.completeMultipartUpload(
+                        bucketName, storagePathService.buildRootPath(id) + path, uploadId, parts.toArray(Part[]::new));
+            } catch (IOException | GeneralSecurityException | MinioException | ExecutionException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to complete multipart upload in path: %s for user %d in bucket '%s'",
+                                path, id, bucketName), exception
+                );
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new MinioOperationException("Interrupted while completing multipart upload for user " + id, exception);
+            }
+            if (resourceMetadataService.isNamespaceEnabled()) {
+                ingestAssembledObject(id, path);
+                return;
+            }
+            invalidateCaches(id, path);
+            saveFileMetadata(id, path);
+        });
+    }
+
+    public void abortMultipartUpload(Long id, String path, String uploadId) {
+        storageOperationMetrics.record("abortMultipartUpload", () -> {
+            try {
+                minioMultipartClient.abortMultipartUpload(bucketName, storagePathService.buildRootPath(id) + path, uploadId);
+            } catch (IOException | GeneralSecurityException | MinioException | ExecutionException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to abort multipart upload in path: %s for user %d in bucket '%s'",
+                                path, id, bucketName), exception
+                );
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new MinioOperationException("Interrupted while aborting multipart upload for user " + id, exception);
+            }
+        });
+    }
+
+    public List<Upload> listMultipartUploads() {
+        return storageOperationMetrics.record("listMultipartUploads", () -> {
+            try {
+                return minioMultipartClient.listMultipartUploads(bucketName);
+            } catch (IOException | GeneralSecurityException | MinioException | ExecutionException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to list multipart uploads in bucket '%s'", bucketName), exception
+                );
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new MinioOperationException("Interrupted while listing multipart uploads", exception);
+            }
+        });
+    }
+
+    public void abortMultipartUpload(String objectName, String uploadId) {
+        storageOperationMetrics.record("abortMultipartUpload", () -> {
+            try {
+                minioMultipartClient.abortMultipartUpload(bucketName, objectName, uploadId);
+            } catch (IOException | GeneralSecurityException | MinioException | ExecutionException exception) {
+                throw new MinioOperationException(
+                        String.format("Failed to abort multipart upload %s of object %s in bucket '%s'",
+                                uploadId, objectName, bucketName), exception
+                );
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new MinioOperationException("Interrupted while aborting multipart upload " + uploadId, exception);
+            }
+        });
+    }
+
+    private Optional<StatObjectResponse> loadStat(Long id, String path) {
+        if (resourceMetadataService.isNamespaceEnabled()) {
+            return resourceMetadataService.getResource(id, path).map(resource -> toNamespaceStat(id, resource));
+        }
+        return storageOperationMetrics.record("statObject", () -> statStoredObject(id, path));
+    }
+
+    private Optional<StatObjectResponse> statStoredObject(Long id, String path) {
+        try {
+            StatObjectResponse stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(storagePathService.buildRootPath(id) + path)
+                            .build());
+            return Optional.of(getBlobHash(stat) != null ? toBlobStat(stat) : stat);
+        } catch (ErrorResponseException exception) {
+            if (NO_SUCH_KEY.equals(exception.errorResponse().code())) {
+                return Optional.empty();
+            }
+            throw new MinioOperationException(
+                    String.format("Failed to stat object in path: %s for user %d in bucket '%s'", path, id, bucketName),
+                    exception);
+        } catch (Exception exception) {
+            throw new MinioOperationException(
+                    String.format("Failed to stat object in path: %s for user %d in bucket '%s'", path, id, bucketName),
+                    exception);
+        }
+    }
+
+    public Optional<String> findBlobObjectName(Long id, String path) {
+        return findBlobHash(id, path).map(deduplicatedStorageService::getObjectName);
+    }
+
+    private void putDeduplicated(Long id, String path, InputStream stream, long size, long partSize,
+                                 String contentType) {
+        String resolvedContentType = contentType != null ? contentType : DEFAULT_CONTENT_TYPE;
+        DeduplicatedStorageService.StoredBlob blob =
+                deduplicatedStorageService.store(stream, size, partSize, resolvedContentType);
+        storageOperationMetrics.recordUpload(blob.size());
+        if (resourceMetadataService.isNamespaceEnabled()) {
+            resourceMetadataService.saveFile(id, path, blob.size(), blob.hash());
+            invalidateCaches(id, path);
+            return;
+        }
+
         try {
             minioClient.putObject(
                     PutObjectArgs.builder()
                             .bucket(bucketName)
-                            .object(storagePathService.buildRootPath(id))
+                            .object(storagePathService.buildRootPath(id) + path)
                             .stream(EMPTY_STREAM, EMPTY_FOLDER_SIZE, AUTO_PART_SIZE)
-                            .contentType(DEFAULT_CONTENT_TYPE)
+                            .contentType(resolvedContentType)
+                            .userMetadata(Map.of(
+                                    BLOB_METADATA, blob.hash(),
+                                    BLOB_SIZE_METADATA, String.valueOf(blob.size())))
                             .build()
             );
         } catch (IOException | GeneralSecurityException | MinioException exception) {
+            deduplicatedStorageService.release(blob.hash());
             throw new MinioOperationException(
-                    String.format("Failed to create root directory '%s' for user %d in bucket '%s'",
-                            storagePathService.buildRootPath(id), id, bucketName), exception
+                    String.format("Failed to create file in path: %s for user %d in bucket '%s'",
+                            storagePathService.buildRootPath(id) + path, id, bucketName), exception
             );
         }
+        resourceMetadataService.saveFile(id, path, blob.size(), blob.hash());
+        invalidateCaches(id, path);
     }
 
-    public void putDirectory(Long id, String path) {
+    private void putFolderMarker(Long id, String path) {
         try {
             minioClient.putObject(
                     PutObjectArgs.builder()
@@ -66,106 +560,137 @@ public class MinioClientService {
         }
     }
 
-    public void putFile(Long id, String path, MultipartFile file) {
+    private List<String> removeStoredObjects(Long id, List<String> paths) {
+        String rootPath = storagePathService.buildRootPath(id);
+        List<DeleteObject> objects = paths.stream()
+                .map(path -> new DeleteObject(rootPath + path))
+                .toList();
+        List<String> failedPaths = new ArrayList<>();
+
         try {
-            minioClient.putObject(
-                    PutObjectArgs.builder()
+            Iterable<Result<DeleteError>> errors = minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
                             .bucket(bucketName)
-                            .object(storagePathService.buildRootPath(id) + path + file.getOriginalFilename())
-                            .stream(file.getInputStream(), file.getSize(), AUTO_PART_SIZE)
-                            .contentType(file.getContentType())
-                            .build()
-            );
+                            .objects(objects)
+                            .build());
+
+            for (Result<DeleteError> result : errors) {
+                DeleteError error = result.get();
+                log.warn("Failed to delete object {} for user {}: {}", error.objectName(), id, error.message());
+                failedPaths.add(storagePathService.deleteRootPath(error.objectName(), id));
+            }
         } catch (IOException | GeneralSecurityException | MinioException exception) {
             throw new MinioOperationException(
-                    String.format("Failed to create file in path: %s for user %d in bucket '%s'",
-                            storagePathService.buildRootPath(id) + path + file.getOriginalFilename(), id, bucketName), exception
+                    String.format("Failed to delete %d objects for user %d in bucket '%s'",
+                            paths.size(), id, bucketName), exception
             );
         }
+        return failedPaths;
     }
 
-    public Iterable<Result<Item>> getListObjects(Long id, String path, TraversalMode traversalMode) {
-        boolean searchType = (TraversalMode.RECURSIVE == traversalMode);
-
-        return minioClient.listObjects(ListObjectsArgs.builder()
+    private void ingestAssembledObject(Long id, String path) {
+        String objectName = storagePathService.buildRootPath(id) + path;
+        try (InputStream stream = minioClient.getObject(GetObjectArgs.builder()
                 .bucket(bucketName)
-                .prefix(storagePathService.buildRootPath(id) + path)
-                .recursive(searchType)
-                .build());
-    }
+                .object(objectName)
+                .build())) {
+            putDeduplicated(id, path, stream, UNKNOWN_OBJECT_SIZE, streamPartSize, null);
+        } catch (IOException | GeneralSecurityException | MinioException exception) {
+            throw new MinioOperationException(
+                    String.format("Failed to ingest multipart upload in path: %s for user %d in bucket '%s'",
+                            path, id, bucketName), exception
+            );
+        }
 
-    public Optional<StatObjectResponse> statObject(Long id, String path) {
         try {
-            return Optional.of(minioClient.statObject(
-                    StatObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(storagePathService.buildRootPath(id) + path)
-                            .build()));
-        } catch (Exception exception) {
-            return Optional.empty();
+            minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .build());
+        } catch (IOException | GeneralSecurityException | MinioException exception) {
+            log.warn("Failed to remove assembled upload {} for user {}", path, id, exception);
         }
     }
 
-    public void removeObject(Long id, String path) {
+    private InputStream getInputStream(MultipartFile file) {
         try {
-            minioClient.removeObject(
-                    RemoveObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(storagePathService.buildRootPath(id) + path)
-                            .build());
-        } catch (IOException | GeneralSecurityException | MinioException exception) {
-            throw new MinioOperationException(
-                    String.format("Failed to delete object in path: %s for user %d in bucket '%s'",
-                            storagePathService.buildRootPath(id), id, bucketName), exception
-            );
+            return file.getInputStream();
+        } catch (IOException exception) {
+            throw new MinioOperationException("Failed to read uploaded file " + file.getOriginalFilename(), exception);
         }
+    }
 
+    private Optional<StatObjectResponse> findBlobPointer(Long id, String path) {
+        if (!deduplicatedStorageService.isEnabled() || path.endsWith("/")) {
+            return Optional.empty();
+        }
+        return statObject(id, path).filter(stat -> getBlobHash(stat) != null);
     }
 
-    public InputStream getObject(Long id, String path) {
-        try {
-            return minioClient.getObject(
-                    GetObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(storagePathService.buildRootPath(id) + path)
-                            .build()
-            );
-        } catch (Exception exception) {
-            throw new MinioOperationException(
-                    String.format("Failed to find object in path: %s for user %d in bucket '%s'",
-                            storagePathService.buildRootPath(id), id, bucketName), exception
-            );
+    private Optional<String> findBlobHash(Long id, String path) {
+        return findBlobPointer(id, path).map(this::getBlobHash);
+    }
+
+    /**
+     * Resolves blob hashes for a batch from the metadata index, which dedup requires: indexed ETags of deduplicated
+     * files are their hashes, and only ETags known to the blob table are kept.
+     */
+    private Map<String, String> findBlobHashes(Long id, List<String> paths) {
+        if (!deduplicatedStorageService.isEnabled()) {
+            return Map.of();
         }
+
+        Map<String, String> etags = resourceMetadataService.getFileEtags(id, paths);
+        Set<String> storedHashes = deduplicatedStorageService.findStoredHashes(etags.values());
+        Map<String, String> blobHashes = new HashMap<>();
+        etags.forEach((path, etag) -> {
+            if (storedHashes.contains(etag)) {
+                blobHashes.put(path, etag);
+            }
+        });
+        return blobHashes;
     }
 
-    public boolean isPathExists(Long id, String path) {
-        Iterable<Result<Item>> results = minioClient.listObjects(ListObjectsArgs.builder()
-                .bucket(bucketName)
-                .prefix(storagePathService.buildRootPath(id) + path)
-                .build()
-        );
-        return results.iterator().hasNext();
+    private String getBlobHash(StatObjectResponse stat) {
+        return stat.headers().get(BLOB_HEADER);
     }
 
-    public void copyObject(Long id, String currentPath, String newPath) {
-        try {
-            minioClient.copyObject(
-                    CopyObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(storagePathService.buildRootPath(id) + newPath)
-                            .source(
-                                    CopySource.builder()
-                                            .bucket(bucketName)
-                                            .object(storagePathService.buildRootPath(id) + currentPath)
-                                            .build())
-                            .build());
-        } catch (Exception exception) {
-            throw new MinioOperationException(
-                    String.format("Failed to copy object from current path: %s to new path: %s for user %d in bucket '%s'",
-                            currentPath, newPath, id, bucketName), exception
-            );
+    private StatObjectResponse toBlobStat(StatObjectResponse pointer) {
+        Headers headers = pointer.headers().newBuilder()
+                .set(HttpHeaders.CONTENT_LENGTH, pointer.headers().get(BLOB_SIZE_HEADER))
+                .set(HttpHeaders.ETAG, "\"" + getBlobHash(pointer) + "\"")
+                .build();
+        return new StatObjectResponse(headers, pointer.bucket(), pointer.region(), pointer.object());
+    }
+
+    private StatObjectResponse toNamespaceStat(Long id, ResourceMetadata resource) {
+        Headers.Builder headers = new Headers.Builder()
+                .set(HttpHeaders.CONTENT_LENGTH, String.valueOf(resource.getSize()))
+                .set(HttpHeaders.CONTENT_TYPE, DEFAULT_CONTENT_TYPE)
+                .set(HttpHeaders.LAST_MODIFIED, Time.HTTP_HEADER_DATE_FORMAT.format(resource.getLastModified()));
+        if (resource.getEtag() != null) {
+            headers.set(HttpHeaders.ETAG, "\"" + resource.getEtag() + "\"")
+                    .set(BLOB_HEADER, resource.getEtag());
         }
+        return new StatObjectResponse(headers.build(), bucketName, null,
+                storagePathService.buildRootPath(id) + resource.getPath());
+    }
 
+    private void invalidateAllCaches(Long id) {
+        objectMetadataCache.invalidateAll(id);
+        directoryListingCache.invalidateAll(id);
+    }
+
+    private void invalidateCaches(Long id, String path) {
+        objectMetadataCache.invalidate(id, path);
+        directoryListingCache.invalidate(id, path);
+    }
+
+    private void saveFileMetadata(Long id, String path) {
+        if (!resourceMetadataService.isEnabled()) {
+            return;
+        }
+        statObject(id, path).ifPresent(object -> resourceMetadataService.saveFile(id, path, object.size(), object.etag()));
     }
 
 }
@@ -0,0 +1,176 @@
+package org.example.cloudstorage.service;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioAsyncClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.errors.MinioException;
+import io.minio.http.Method;
+import io.minio.messages.ListMultipartUploadsResult;
+import io.minio.messages.ListPartsResult;
+import io.minio.messages.Part;
+import io.minio.messages.Upload;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSink;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+public class MinioMultipartClient extends MinioAsyncClient {
+
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final int MAX_PARTS_PER_LISTING = 1000;
+    private static final int FIRST_PART_NUMBER_MARKER = 0;
+    private static final int MAX_UPLOADS_PER_LISTING = 1000;
+    private static final int PART_URL_EXPIRY_SECONDS = 3600;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String ETAG_HEADER = "ETag";
+    private static final String UPLOAD_ID = "uploadId";
+    private static final String PART_NUMBER = "partNumber";
+
+    private final OkHttpClient httpClient;
+
+    public MinioMultipartClient(MinioAsyncClient client, OkHttpClient httpClient) {
+        super(client);
+        this.httpClient = httpClient;
+    }
+
+    public String createMultipartUpload(String bucketName, String objectName, String contentType)
+            throws IOException, GeneralSecurityException, MinioException, InterruptedException, ExecutionException {
+        Multimap<String, String> headers = HashMultimap.create();
+        headers.put(CONTENT_TYPE_HEADER, contentType);
+
+        return createMultipartUploadAsync(bucketName, null, objectName, headers, null)
+                .get()
+                .result()
+                .uploadId();
+    }
+
+    public String uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+                             InputStream data, long length)
+            throws IOException, GeneralSecurityException, MinioException, InterruptedException, ExecutionException {
+        String url = getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
+                .method(Method.PUT)
+                .bucket(bucketName)
+                .object(objectName)
+                .expiry(PART_URL_EXPIRY_SECONDS)
+                .extraQueryParams(Map.of(UPLOAD_ID, uploadId, PART_NUMBER, String.valueOf(partNumber)))
+                .build());
+        Request request = new Request.Builder()
+                .url(url)
+                .put(new StreamingPartBody(data, length))
+                .build();
+
+        try (Response response = httpClient.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException(String.format("Upload of part %d for object %s failed with status %d",
+                        partNumber, objectName, response.code()));
+            }
+            String etag = response.header(ETAG_HEADER);
+            return etag != null ? etag.replace("\"", "") : null;
+        }
+    }
+
+    public List<Part> listParts(String bucketName, String objectName, String uploadId)
+            throws IOException, GeneralSecurityException, MinioException, InterruptedException, ExecutionException {
+        List<Part> parts = new ArrayList<>();
+        int partNumberMarker = FIRST_PART_NUMBER_MARKER;
+
+        while (true) {
+            ListPartsResult result = listPartsAsync(bucketName, null, objectName, MAX_PARTS_PER_LISTING,
+                    partNumberMarker, uploadId, null, null)
+                    .get()
+                    .result();
+            parts.addAll(result.partList());
+
+            if (!result.isTruncated()) {
+                return parts;
+            }
+            partNumberMarker = result.nextPartNumberMarker();
+        }
+    }
+
+    public List<Upload> listMultipartUploads(String bucketName)
+            throws IOException, GeneralSecurityException, MinioException, InterruptedException, ExecutionException {
+        List<Upload> uploads = new ArrayList<>();
+        String keyMarker = null;
+        String uploadIdMarker = null;
+
+        while (true) {
+            ListMultipartUploadsResult result = listMultipartUploadsAsync(bucketName, null, null, null, keyMarker,
+                    MAX_UPLOADS_PER_LISTING, null, uploadIdMarker, null, null)
+                    .get()
+                    .result();
+            uploads.addAll(result.uploads());
+
+            if (!result.isTruncated()) {
+                return uploads;
+            }
+            keyMarker = result.nextKeyMarker();
+            uploadIdMarker = result.nextUploadIdMarker();
+        }
+    }
+
+    public ObjectWriteResponse completeMultipartUpload(String bucketName, String objectName, String uploadId, Part[] parts)
+            throws IOException, GeneralSecurityException, MinioException, InterruptedException, ExecutionException {
+        return completeMultipartUploadAsync(bucketName, null, objectName, uploadId, parts, null, null).get();
+    }
+
+    public void abortMultipartUpload(String bucketName, String objectName, String uploadId)
+            throws IOException, GeneralSecurityException, MinioException, InterruptedException, ExecutionException {
+        abortMultipartUploadAsync(bucketName, null, objectName, uploadId, null, null).get();
+    }
+
+    private static final class StreamingPartBody extends RequestBody {
+
+        private final InputStream data;
+        private final long length;
+
+        private StreamingPartBody(InputStream data, long length) {
+            this.data = data;
+            this.length = length;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return null;
+        }
+
+        @Override
+        public long contentLength() {
+            return length;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return true;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = length;
+            while (remaining > 0) {
+                int bytesRead = data.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (bytesRead < 0) {
+                    throw new EOFException(String.format("Part body ended after %d of %d bytes",
+                            length - remaining, length));
+                }
+                sink.write(buffer, 0, bytesRead);
+                remaining -= bytesRead;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+package org.example.cloudstorage.service;
+
+import org.example.cloudstorage.model.DirectorySort;
+import org.example.cloudstorage.model.NamespaceNode;
+import org.example.cloudstorage.model.ResourceMetadata;
+import org.example.cloudstorage.repository.NamespaceNodeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.example.cloudstorage.utils.PathUtils.extractParentPath;
+import static org.example.cloudstorage.utils.PathUtils.extractResourceName;
+
+@Service
+public class NamespaceService {
+
+    private static final long ROOT_ID = 0L;
+
+    private final NamespaceNodeRepository namespaceNodeRepository;
+    private final boolean enabled;
+
+    public NamespaceService(NamespaceNodeRepository namespaceNodeRepository,
+                            @Value("${storage.namespace.enabled:false}") boolean enabled,
+                            @Value("${storage.dedup.enabled:false}") boolean dedupEnabled) {
+        if (enabled && !dedupEnabled) {
+            throw new IllegalStateException("storage.namespace.enabled requires storage.dedup.enabled");
+        }
+        this.namespaceNodeRepository = namespaceNodeRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Transactional
+    public void saveFolder(Long id, String path) {
+        if (path.isEmpty()) {
+            return;
+        }
+        ensureFolder(id, path);
+    }
+
+    @Transactional
+    public void saveFile(Long id, String path, long size, String blobHash) {
+        long parentId = ensureFolder(id, extractParentPath(path));
+        namespaceNodeRepository.upsertFile(id, parentId, extractResourceName(path, false), size, blobHash,
+                Instant.now());
+    }
+
+    @Transactional
+    public boolean copy(Long id, String currentPath, String newPath) {
+        Optional<NamespaceNode> source = find(id, currentPath);
+        if (source.isEmpty()) {
+            return false;
+        }
+        if (source.get().isDirectory()) {
+            ensureFolder(id, newPath);
+        } else {
+            saveFile(id, newPath, source.get().getSize(), source.get().getBlobHash());
+        }
+        return true;
+    }
+
+    @Transactional
+    public void move(Long id, String currentPath, String newPath) {
+        NamespaceNode node = find(id, currentPath)
+                .orElseThrow(() -> new IllegalStateException("Namespace node not found for path " + currentPath));
+        node.setParentId(ensureFolder(id, extractParentPath(newPath)));
+        node.setName(extractResourceName(newPath, newPath.endsWith("/")));
+        node.setLastModified(Instant.now());
+    }
+
+    @Transactional
+    public void delete(Long id, Collection<String> paths) {
+        for (String path : paths) {
+            find(id, path).ifPresent(node -> namespaceNodeRepository.deleteSubtree(id, node.getId()));
+        }
+    }
+
+    @Transactional
+    public void deleteTree(Long id, String path) {
+        if (path.isEmpty()) {
+            return;
+        }
+        find(id, path).ifPresent(node -> namespaceNodeRepository.deleteSubtree(id, node.getId()));
+    }
+
+    @Transactional
+    public List<ResourceMetadata> removeTree(Long id, String path) {
+        if (path.isEmpty()) {
+            return List.of();
+        }
+        return find(id, path)
+                .map(node -> namespaceNodeRepository.deleteSubtreeReturning(id, node.getId(), path).stream()
+                        .map(row -> toDeletedMetadata(id, row))
+                        .toList())
+                .orElse(List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isPathExists(Long id, String path) {
+        return path.isEmpty() || find(id, path).isPresent();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceMetadata> getResource(Long id, String path) {
+        return find(id, path).map(node -> toMetadata(node, path));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceMetadata> getChildren(Long id, String path) {
+        return resolveFolder(id, path)
+                .map(folderId -> toChildren(namespaceNodeRepository.findByUserIdAndParentIdOrderByName(id, folderId), path))
+                .orElse(List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceMetadata> getChildrenPage(Long id, String path, DirectorySort sort,
+                                                  boolean afterDirectory, long afterSize, String afterName, int limit) {
+        Optional<Long> folderId = resolveFolder(id, path);
+        if (folderId.isEmpty()) {
+            return List.of();
+        }
+        List<NamespaceNode> nodes = switch (sort) {
+            case NAME -> namespaceNodeRepository.findChildrenPageByName(id, folderId.get(), afterName, limit);
+            case SIZE -> namespaceNodeRepository.findChildrenPageBySize(id, folderId.get(), afterSize, afterName, limit);
+            case TYPE -> namespaceNodeRepository.findChildrenPageByType(id, folderId.get(), !afterDirectory,
+                    afterName, limit);
+        };
+        return toChildren(nodes, path);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceMetadata> getDescendants(Long id, String path) {
+        return resolveFolder(id, path)
+                .map(folderId -> toMetadata(namespaceNodeRepository.findDescendantPaths(id, folderId, path)))
+                .orElse(List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceMetadata> search(Long id, String normalizedQuery, String pattern, String prefix, int limit) {
+        return toMetadata(namespaceNodeRepository.search(id, normalizedQuery, pattern, prefix, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public long countFiles(Long id) {
+        return namespaceNodeRepository.countByUserIdAndDirectoryFalse(id);
+    }
+
+    @Transactional(readOnly = true)
+    public long getTotalFileSize(Long id) {
+        return namespaceNodeRepository.sumFileSizes(id);
+    }
+
+    private Optional<NamespaceNode> find(Long id, String path) {
+        if (path.isEmpty()) {
+            return Optional.empty();
+        }
+        boolean isDirectory = path.endsWith("/");
+        return resolveFolder(id, extractParentPath(path))
+                .flatMap(parentId -> namespaceNodeRepository.findByUserIdAndParentIdAndName(
+                        id, parentId, extractResourceName(path, isDirectory)));
+    }
+
+    private Optional<Long> resolveFolder(Long id, String path) {
+        long folderId = ROOT_ID;
+        int nameStart = 0;
+        for (int i = path.indexOf('/'); i >= 0; i = path.indexOf('/', nameStart)) {
+            Optional<NamespaceNode> folder = namespaceNodeRepository.findByUserIdAndParentIdAndName(
+                    id, folderId, path.substring(nameStart, i + 1));
+            if (folder.isEmpty() || !folder.get().isDirectory()) {
+                return Optional.empty();
+            }
+            folderId = folder.get().getId();
+            nameStart = i + 1;
+        }
+        return Optional.of(folderId);
+    }
+
+    private long ensureFolder(Long id, String path) {
+        long folderId = ROOT_ID;
+        int nameStart = 0;
+        for (int i = path.indexOf('/'); i >= 0; i = path.indexOf('/', nameStart)) {
+            String name = path.substring(nameStart, i + 1);
+            Optional<NamespaceNode> folder = namespaceNodeRepository.findByUserIdAndParentIdAndName(id, folderId, name);
+            if (folder.isEmpty()) {
+                namespaceNodeRepository.insertFolder(id, folderId, name, Instant.now());
+                folder = namespaceNodeRepository.findByUserIdAndParentIdAndName(id, folderId, name);
+            }
+            folderId = folder.orElseThrow(() -> new IllegalStateException("Failed to create folder " + path))
+                    .getId();
+            nameStart = i + 1;
+        }
+        return folderId;
+    }
+
+    private List<ResourceMetadata> toChildren(List<NamespaceNode> nodes, String path) {
+        return nodes.stream()
+                .map(node -> toMetadata(node, path + node.getName()))
+                .toList();
+    }
+
+    private List<ResourceMetadata> toMetadata(List<Object[]> rows) {
+        List<Long> ids = rows.stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .toList();
+        Map<Long, NamespaceNode> nodes = namespaceNodeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(NamespaceNode::getId, Function.identity()));
+
+        List<ResourceMetadata> resources = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            NamespaceNode node = nodes.get(((Number) row[0]).longValue());
+            if (node != null) {
+                resources.add(toMetadata(node, (String) row[1]));
+            }
+        }
+        return resources;
+    }
+
+    private ResourceMetadata toMetadata(NamespaceNode node, String path) {
+        String parentPath = path.substring(0, path.length() - node.getName().length());
+        return new ResourceMetadata(node.getId(), node.getUserId(), path, parentPath, node.getName(),
+                node.isDirectory(), node.getSize(), node.getBlobHash(), node.getLastModified());
+    }
+
+    private ResourceMetadata toDeletedMetadata(Long id, Object[] row) {
+        String path = (String) row[1];
+        String name = (String) row[2];
+        return new ResourceMetadata(((Number) row[0]).longValue(), id, path,
+                path.substring(0, path.length() - name.length()), name, (Boolean) row[3],
+                ((Number) row[4]).longValue(), (String) row[5], null);
+    }
+
+}
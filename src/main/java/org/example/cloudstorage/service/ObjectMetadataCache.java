@@ -0,0 +1,89 @@
+package org.example.cloudstorage.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.minio.StatObjectResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+@Service
+public class ObjectMetadataCache {
+
+    private static final String STAT_CACHE_NAME = "object.stat";
+    private static final String EXISTENCE_CACHE_NAME = "object.exists";
+
+    private final Cache<ObjectKey, Optional<StatObjectResponse>> stats;
+    private final Cache<ObjectKey, Boolean> existence;
+    private final ConcurrentMap<Long, Long> generations = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public ObjectMetadataCache(@Value("${storage.stat-cache.enabled:true}") boolean enabled,
+                               @Value("${storage.stat-cache.ttl:5s}") Duration ttl,
+                               @Value("${storage.stat-cache.max-entries:100000}") long maxEntries,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.stats = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        this.existence = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, stats, STAT_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, existence, EXISTENCE_CACHE_NAME);
+    }
+
+    public Optional<StatObjectResponse> getStat(Long id, String path, Supplier<Optional<StatObjectResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return stats.get(key(id, path), key -> loader.get());
+    }
+
+    public boolean isPathExists(Long id, String path, BooleanSupplier loader) {
+        if (!enabled) {
+            return loader.getAsBoolean();
+        }
+        return existence.get(key(id, path), key -> loader.getAsBoolean());
+    }
+
+    public void invalidate(Long id, String path) {
+        if (!enabled) {
+            return;
+        }
+
+        long generation = generations.getOrDefault(id, 0L);
+        stats.invalidate(new ObjectKey(id, generation, path));
+        for (int i = 0; i <= path.length(); i++) {
+            existence.invalidate(new ObjectKey(id, generation, path.substring(0, i)));
+        }
+    }
+
+    public void invalidateAll(Long id) {
+        if (!enabled) {
+            return;
+        }
+
+        generations.merge(id, 1L, Long::sum);
+    }
+
+    private ObjectKey key(Long id, String path) {
+        return new ObjectKey(id, generations.getOrDefault(id, 0L), path);
+    }
+
+    private record ObjectKey(Long userId, long generation, String path) {
+    }
+
+}
@@ -0,0 +1,11 @@
+package org.example.cloudstorage.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@FunctionalInterface
+public interface ObjectStreamSource {
+
+    InputStream open(String objectPath) throws IOException;
+
+}
@@ -0,0 +1,192 @@
+package org.example.cloudstorage.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.model.ResourceType;
+import org.example.cloudstorage.model.UploadStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+public class ParallelUploadService {
+
+    private static final String FILE_FAILED_MESSAGE = "Failed to upload file";
+    private static final String FOLDER_FAILED_MESSAGE = "Failed to create parent folder";
+
+    private final MinioClientService minioClientService;
+    private final StorageUsageService storageUsageService;
+    private final ExecutorService storageUploadExecutor;
+    private final int requestParallelism;
+    private final int userParallelism;
+    private final ConcurrentMap<Long, UserPermits> userPermits = new ConcurrentHashMap<>();
+
+    public ParallelUploadService(MinioClientService minioClientService,
+                                 StorageUsageService storageUsageService,
+                                 @Qualifier("storageUploadExecutor") ExecutorService storageUploadExecutor,
+                                 @Value("${storage.upload.parallelism:8}") int requestParallelism,
+                                 @Value("${storage.upload.max-concurrent-per-user:16}") int userParallelism) {
+        this.minioClientService = minioClientService;
+        this.storageUsageService = storageUsageService;
+        this.storageUploadExecutor = storageUploadExecutor;
+        this.requestParallelism = requestParallelism;
+        this.userParallelism = userParallelism;
+    }
+
+    /**
+     * Each file succeeds or fails on its own: failures are reported in the returned list rather than thrown.
+     * Files under a folder that could not be created are not attempted.
+     */
+    public List<ResourceResponseDto> upload(Long id, String path, Collection<String> folders, MultipartFile[] files) {
+        Semaphore requestPermits = new Semaphore(requestParallelism);
+        Semaphore userLimit = acquireUserPermits(id);
+        Queue<String> failedFolders = new ConcurrentLinkedQueue<>();
+        Queue<String> failedFiles = new ConcurrentLinkedQueue<>();
+        Set<String> skippedFiles = new HashSet<>();
+
+        try {
+            List<CompletableFuture<Void>> folderTasks = new ArrayList<>(folders.size());
+            for (String folder : folders) {
+                folderTasks.add(submit(id, folder, () -> minioClientService.putDirectory(id, folder),
+                        requestPermits, userLimit, failedFolders));
+            }
+            await(folderTasks);
+
+            LongAdder uploadedBytes = new LongAdder();
+            LongAdder uploadedCount = new LongAdder();
+            List<CompletableFuture<Void>> fileTasks = new ArrayList<>(files.length);
+            try {
+                for (MultipartFile file : files) {
+                    String filePath = path + file.getOriginalFilename();
+                    if (isInFailedFolder(filePath, failedFolders)) {
+                        skippedFiles.add(filePath);
+                        continue;
+                    }
+                    fileTasks.add(submit(id, filePath, () -> {
+                        minioClientService.putFile(id, path, file);
+                        uploadedBytes.add(file.getSize());
+                        uploadedCount.increment();
+                    }, requestPermits, userLimit, failedFiles));
+                }
+            } finally {
+                try {
+                    await(fileTasks);
+                } finally {
+                    storageUsageService.recordUpload(id, uploadedBytes.sum(), uploadedCount.sum());
+                }
+            }
+        } finally {
+            releaseUserPermits(id);
+        }
+
+        if (!failedFolders.isEmpty() || !failedFiles.isEmpty()) {
+            log.warn("Upload for user {} finished with {} failed folders and {} failed files",
+                    id, failedFolders.size(), failedFiles.size() + skippedFiles.size());
+        }
+
+        Set<String> failedFilePaths = new HashSet<>(failedFiles);
+        List<ResourceResponseDto> uploadedFiles = new ArrayList<>(files.length);
+        for (MultipartFile file : files) {
+            String filePath = path + file.getOriginalFilename();
+            String error = skippedFiles.contains(filePath) ? FOLDER_FAILED_MESSAGE
+                    : failedFilePaths.contains(filePath) ? FILE_FAILED_MESSAGE
+                    : null;
+            uploadedFiles.add(new FileResponseDto(path, file.getOriginalFilename(), file.getSize(), ResourceType.FILE,
+                    error == null ? UploadStatus.UPLOADED : UploadStatus.FAILED, error));
+        }
+        return uploadedFiles;
+    }
+
+    private boolean isInFailedFolder(String filePath, Collection<String> failedFolders) {
+        return failedFolders.stream().anyMatch(filePath::startsWith);
+    }
+
+    private CompletableFuture<Void> submit(Long id, String path, Runnable upload, Semaphore requestPermits,
+                                           Semaphore userLimit, Queue<String> failedPaths) {
+        try {
+            requestPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MinioOperationException("Interrupted while uploading files for user with id " + id, e);
+        }
+        try {
+            userLimit.acquire();
+        } catch (InterruptedException e) {
+            requestPermits.release();
+            Thread.currentThread().interrupt();
+            throw new MinioOperationException("Interrupted while uploading files for user with id " + id, e);
+        }
+
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    upload.run();
+                } catch (MinioOperationException e) {
+                    log.warn("Failed to upload {} for user {}", path, id, e);
+                    failedPaths.add(path);
+                } finally {
+                    userLimit.release();
+                    requestPermits.release();
+                }
+            }, storageUploadExecutor);
+        } catch (RejectedExecutionException e) {
+            userLimit.release();
+            requestPermits.release();
+            throw e;
+        }
+    }
+
+    private void await(List<CompletableFuture<Void>> tasks) {
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    private Semaphore acquireUserPermits(Long id) {
+        return userPermits.compute(id, (key, permits) -> {
+            UserPermits current = permits != null ? permits : new UserPermits(userParallelism);
+            current.holders++;
+            return current;
+        }).semaphore;
+    }
+
+    private void releaseUserPermits(Long id) {
+        userPermits.computeIfPresent(id, (key, permits) -> --permits.holders == 0 ? null : permits);
+    }
+
+    private static final class UserPermits {
+
+        private final Semaphore semaphore;
+        private int holders;
+
+        private UserPermits(int permits) {
+            this.semaphore = new Semaphore(permits);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.example.cloudstorage.service;
+
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.errors.MinioException;
+import io.minio.http.Method;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Map;
+
+@Service
+public class PresignedUrlService {
+
+    private static final String RESPONSE_CONTENT_DISPOSITION = "response-content-disposition";
+    private static final String RESPONSE_CONTENT_TYPE = "response-content-type";
+    private static final String UPLOAD_ID = "uploadId";
+    private static final String PART_NUMBER = "partNumber";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final MinioClient minioPresignClient;
+    private final StoragePathService storagePathService;
+    private final String bucketName;
+    private final Duration downloadExpiry;
+    private final Duration uploadExpiry;
+
+    public PresignedUrlService(@Qualifier("minioPresignClient") MinioClient minioPresignClient,
+                               StoragePathService storagePathService,
+                               @Value("${MINIO_BUCKET_NAME}") String bucketName,
+                               @Value("${storage.download.presigned.expiry:5m}") Duration downloadExpiry,
+                               @Value("${storage.upload.presigned.expiry:15m}") Duration uploadExpiry) {
+        this.minioPresignClient = minioPresignClient;
+        this.storagePathService = storagePathService;
+        this.bucketName = bucketName;
+        this.downloadExpiry = downloadExpiry;
+        this.uploadExpiry = uploadExpiry;
+    }
+
+    public URI getDownloadUrl(Long id, String path, String contentDisposition) {
+        return getDownloadUrl(storagePathService.buildRootPath(id) + path, contentDisposition);
+    }
+
+    public URI getDownloadUrl(String objectName, String contentDisposition) {
+        return getUrl(objectName, Method.GET, downloadExpiry, Map.of(
+                RESPONSE_CONTENT_DISPOSITION, contentDisposition,
+                RESPONSE_CONTENT_TYPE, DEFAULT_CONTENT_TYPE
+        ));
+    }
+
+    public URI getUploadPartUrl(Long id, String path, String uploadId, int partNumber) {
+        return getUrl(storagePathService.buildRootPath(id) + path, Method.PUT, uploadExpiry, Map.of(
+                UPLOAD_ID, uploadId,
+                PART_NUMBER, String.valueOf(partNumber)
+        ));
+    }
+
+    public Duration getUploadExpiry() {
+        return uploadExpiry;
+    }
+
+    private URI getUrl(String objectName, Method method, Duration expiry, Map<String, String> queryParams) {
+        try {
+            return URI.create(minioPresignClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(method)
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .expiry((int) expiry.toSeconds())
+                            .extraQueryParams(queryParams)
+                            .build()
+            ));
+        } catch (IOException | GeneralSecurityException | MinioException exception) {
+            throw new MinioOperationException(
+                    String.format("Failed to presign %s url for object: %s in bucket '%s'",
+                            method, objectName, bucketName), exception
+            );
+        }
+    }
+
+}
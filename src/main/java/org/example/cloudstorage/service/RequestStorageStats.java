@@ -0,0 +1,104 @@
+package org.example.cloudstorage.service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public final class RequestStorageStats {
+
+    private static final ThreadLocal<RequestStorageStats> CURRENT = new ThreadLocal<>();
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final LongAdder storageNanos = new LongAdder();
+    private final LongAdder uploadedBytes = new LongAdder();
+    private final LongAdder downloadedBytes = new LongAdder();
+
+    public static RequestStorageStats current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(RequestStorageStats stats) {
+        CURRENT.set(stats);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static Runnable propagate(Runnable task) {
+        RequestStorageStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestStorageStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    public void recordCall(String operation, long nanos) {
+        calls.computeIfAbsent(operation, key -> new LongAdder()).increment();
+        storageNanos.add(nanos);
+    }
+
+    public void recordStorageTime(long nanos) {
+        storageNanos.add(nanos);
+    }
+
+    public void recordUpload(long bytes) {
+        uploadedBytes.add(bytes);
+    }
+
+    public void recordDownload(long bytes) {
+        downloadedBytes.add(bytes);
+    }
+
+    public long getCallCount() {
+        return calls.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getUploadedBytes() {
+        return uploadedBytes.sum();
+    }
+
+    public long getDownloadedBytes() {
+        return downloadedBytes.sum();
+    }
+
+    public Map<String, Long> getCallsByOperation() {
+        return calls.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum(),
+                        (first, second) -> first, TreeMap::new));
+    }
+
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(String.format(Locale.ROOT, "storage;dur=%.1f;desc=\"%d calls\"",
+                storageNanos.sum() / NANOS_PER_MILLI, getCallCount()));
+        getCallsByOperation().forEach((operation, count) ->
+                header.append(", storage.").append(operation).append(";desc=\"").append(count).append('"'));
+        header.append(", storage.bytes;desc=\"up=").append(getUploadedBytes())
+                .append(" down=").append(getDownloadedBytes()).append('"');
+        return header.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d calls %s, %d bytes up, %d bytes down",
+                getCallCount(), getCallsByOperation(), getUploadedBytes(), getDownloadedBytes());
+    }
+
+}
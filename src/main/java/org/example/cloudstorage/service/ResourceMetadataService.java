@@ -0,0 +1,245 @@
+package org.example.cloudstorage.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.cloudstorage.model.DirectorySort;
+import org.example.cloudstorage.model.ResourceMetadata;
+import org.example.cloudstorage.repository.ResourceMetadataRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.example.cloudstorage.utils.PathUtils.extractParentPath;
+import static org.example.cloudstorage.utils.PathUtils.extractResourceName;
+
+@Service
+@RequiredArgsConstructor
+public class ResourceMetadataService {
+
+    private static final String ROOT_PATH = "";
+    private static final String MAX_PATH = Character.toString(Character.MAX_CODE_POINT);
+    private static final long EMPTY_FOLDER_SIZE = 0L;
+
+    private final ResourceMetadataRepository resourceMetadataRepository;
+    private final NamespaceService namespaceService;
+
+    @Value("${storage.metadata-index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${storage.search.max-results:50}")
+    private int maxSearchResults;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isNamespaceEnabled() {
+        return namespaceService.isEnabled();
+    }
+
+    @Transactional
+    public void saveFolder(Long id, String path) {
+        if (!enabled || path.isEmpty()) {
+            return;
+        }
+        if (namespaceService.isEnabled()) {
+            namespaceService.saveFolder(id, path);
+            return;
+        }
+        resourceMetadataRepository.upsert(id, path, extractParentPath(path), extractResourceName(path, true),
+                true, EMPTY_FOLDER_SIZE, null, Instant.now());
+    }
+
+    @Transactional
+    public void saveFile(Long id, String path, long size, String etag) {
+        if (!enabled) {
+            return;
+        }
+        if (namespaceService.isEnabled()) {
+            namespaceService.saveFile(id, path, size, etag);
+            return;
+        }
+        resourceMetadataRepository.upsert(id, path, extractParentPath(path), extractResourceName(path, false),
+                false, size, etag, Instant.now());
+    }
+
+    @Transactional
+    public boolean copy(Long id, String currentPath, String newPath) {
+        if (!enabled) {
+            return true;
+        }
+        if (namespaceService.isEnabled()) {
+            return namespaceService.copy(id, currentPath, newPath);
+        }
+        boolean isDirectory = newPath.endsWith("/");
+        int copied = resourceMetadataRepository.copy(id, currentPath, newPath, extractParentPath(newPath),
+                extractResourceName(newPath, isDirectory), Instant.now());
+        return copied > 0;
+    }
+
+    @Transactional
+    public void delete(Long id, Collection<String> paths) {
+        if (!enabled || paths.isEmpty()) {
+            return;
+        }
+        if (namespaceService.isEnabled()) {
+            namespaceService.delete(id, paths);
+            return;
+        }
+        resourceMetadataRepository.deleteByPaths(id, paths);
+    }
+
+    @Transactional
+    public void deleteTree(Long id, String path) {
+        if (!enabled || path.isEmpty()) {
+            return;
+        }
+        if (namespaceService.isEnabled()) {
+            namespaceService.deleteTree(id, path);
+            return;
+        }
+        resourceMetadataRepository.deleteRange(id, path, prefixUpperBound(path));
+    }
+
+    @Transactional
+    public List<ResourceMetadata> removeTree(Long id, String path) {
+        if (!namespaceService.isEnabled()) {
+            throw new IllegalStateException("Metadata-only tree removal requires storage.namespace.enabled");
+        }
+        return namespaceService.removeTree(id, path);
+    }
+
+    @Transactional
+    public void move(Long id, String currentPath, String newPath) {
+        if (!namespaceService.isEnabled()) {
+            throw new IllegalStateException("Metadata-only moves require storage.namespace.enabled");
+        }
+        namespaceService.move(id, currentPath, newPath);
+    }
+
+    @Transactional
+    public void replaceAll(Long id, List<ResourceMetadata> resources) {
+        if (namespaceService.isEnabled()) {
+            throw new IllegalStateException("Index rebuild is not supported with storage.namespace.enabled");
+        }
+        resourceMetadataRepository.deleteAllByUser(id);
+        resourceMetadataRepository.saveAll(resources);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isPathExists(Long id, String path) {
+        if (path.isEmpty()) {
+            return true;
+        }
+        if (namespaceService.isEnabled()) {
+            return namespaceService.isPathExists(id, path);
+        }
+        return resourceMetadataRepository.existsByUserIdAndPathGreaterThanEqualAndPathLessThan(
+                id, path, prefixUpperBound(path));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceMetadata> getResource(Long id, String path) {
+        return namespaceService.getResource(id, path);
+    }
+
+    /**
+     * Returns the indexed ETag of each file among {@code paths}; folders and unindexed paths are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, String> getFileEtags(Long id, Collection<String> paths) {
+        if (!enabled || paths.isEmpty()) {
+            return Map.of();
+        }
+        List<ResourceMetadata> resources = namespaceService.isEnabled()
+                ? paths.stream().flatMap(path -> namespaceService.getResource(id, path).stream()).toList()
+                : resourceMetadataRepository.findByUserIdAndPathIn(id, paths);
+        return resources.stream()
+                .filter(resource -> !resource.isDirectory() && resource.getEtag() != null)
+                .collect(Collectors.toMap(ResourceMetadata::getPath, ResourceMetadata::getEtag));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceMetadata> getChildren(Long id, String path) {
+        if (namespaceService.isEnabled()) {
+            return namespaceService.getChildren(id, path);
+        }
+        return resourceMetadataRepository.findByUserIdAndParentPathOrderByPath(id, path);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceMetadata> getChildrenPage(Long id, String path, DirectorySort sort,
+                                                  boolean afterDirectory, long afterSize, String afterName, int limit) {
+        if (namespaceService.isEnabled()) {
+            return namespaceService.getChildrenPage(id, path, sort, afterDirectory, afterSize, afterName, limit);
+        }
+        String afterPath = afterName.isEmpty() ? ROOT_PATH : path + afterName;
+        return switch (sort) {
+            case NAME -> resourceMetadataRepository.findChildrenPageByName(id, path, afterPath, limit);
+            case SIZE -> resourceMetadataRepository.findChildrenPageBySize(id, path, afterSize, afterPath, limit);
+            case TYPE -> resourceMetadataRepository.findChildrenPageByType(id, path, !afterDirectory, afterPath, limit);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceMetadata> getDescendants(Long id, String path) {
+        if (namespaceService.isEnabled()) {
+            return namespaceService.getDescendants(id, path);
+        }
+        if (path.equals(ROOT_PATH)) {
+            return resourceMetadataRepository.findDescendants(id, ROOT_PATH, MAX_PATH);
+        }
+        return resourceMetadataRepository.findDescendants(id, path, prefixUpperBound(path));
+    }
+
+    @Transactional(readOnly = true)
+    public long countFiles(Long id) {
+        if (namespaceService.isEnabled()) {
+            return namespaceService.countFiles(id);
+        }
+        return resourceMetadataRepository.countByUserIdAndDirectoryFalse(id);
+    }
+
+    @Transactional(readOnly = true)
+    public long getTotalFileSize(Long id) {
+        if (namespaceService.isEnabled()) {
+            return namespaceService.getTotalFileSize(id);
+        }
+        return resourceMetadataRepository.sumFileSizes(id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceMetadata> search(Long id, String query) {
+        return search(id, query, maxSearchResults);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceMetadata> search(Long id, String query, int limit) {
+        String normalizedQuery = query.toLowerCase(Locale.ROOT);
+        String escapedQuery = escapeLikePattern(normalizedQuery);
+        if (namespaceService.isEnabled()) {
+            return namespaceService.search(id, normalizedQuery, "%" + escapedQuery + "%", escapedQuery + "%", limit);
+        }
+        return resourceMetadataRepository.search(id, normalizedQuery, "%" + escapedQuery + "%",
+                escapedQuery + "%", limit);
+    }
+
+    private String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private String prefixUpperBound(String prefix) {
+        int lastIndex = prefix.length() - 1;
+        return prefix.substring(0, lastIndex) + (char) (prefix.charAt(lastIndex) + 1);
+    }
+
+}
@@ -5,7 +5,6 @@ import io.minio.StatObjectResponse;
 import io.minio.messages.Item;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.compress.utils.IOUtils;
 import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.FolderResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
@@ -14,8 +13,10 @@ import org.example.cloudstorage.exception.InvalidPathException;
 import org.example.cloudstorage.exception.ResourceExistsException;
 import org.example.cloudstorage.exception.ResourceNotFoundException;
 import org.example.cloudstorage.mapper.FileSystemMapper;
+import org.example.cloudstorage.model.ArchiveEntry;
 import org.example.cloudstorage.model.ResourceType;
 import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.model.ZipCompressionProfile;
 import org.example.cloudstorage.validation.MoveOperationValidator;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -23,12 +24,12 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
 
 import static org.example.cloudstorage.utils.PathUtils.*;
 import static org.example.cloudstorage.validation.PathAndNameValidator.*;
@@ -43,6 +44,15 @@ public class ResourceService {
     private final StoragePathService storagePathService;
     private final FileSystemMapper fileSystemMapper;
     private final MoveOperationValidator moveOperationValidator;
+    private final BatchDeleteService batchDeleteService;
+    private final FolderMoveService folderMoveService;
+    private final PresignedUrlService presignedUrlService;
+    private final ZipArchiveService zipArchiveService;
+    private final ResourceMetadataService resourceMetadataService;
+    private final AncestorFolderResolver ancestorFolderResolver;
+    private final ParallelUploadService parallelUploadService;
+    private final StorageUsageService storageUsageService;
+    private final SearchResultMatcher searchResultMatcher;
 
     private static final int BUFFER_SIZE_1KB = 1024;
     private static final int START_OF_BUFFER = 0;
@@ -56,7 +66,7 @@ public class ResourceService {
             throw new InvalidPathException("Invalid path");
         }
 
-        if (minioClientService.isPathExists(id, parentPath)) {
+        if (directoryService.isPathExists(id, parentPath)) {
             return minioClientService.statObject(id, path)
                     .map(object -> fileSystemMapper.statObjectToDto(object, id, storagePathService))
                     .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
@@ -80,10 +90,20 @@ public class ResourceService {
         if (isResourceExists(id, path, files)) {
             throw new ResourceExistsException("Resource with this name already exists in this directory");
         }
-        if (!minioClientService.isPathExists(id, path) && path.endsWith("/")) {
-            return getUploadedFiles(files, id, path);
+        Lock usageLock = storageUsageService.lockForChange(id);
+        try {
+            long reservedBytes = storageUsageService.reserve(id, Arrays.stream(files).mapToLong(MultipartFile::getSize).sum());
+            try {
+                if (!directoryService.isPathExists(id, path) && path.endsWith("/")) {
+                    return getUploadedFiles(files, id, path);
+                }
+                return getUploadedFiles(files, id, path);
+            } finally {
+                storageUsageService.release(id, reservedBytes);
+            }
+        } finally {
+            usageLock.unlock();
         }
-        return getUploadedFiles(files, id, path);
     }
 
     public void delete(Long id, String path) {
@@ -91,29 +111,39 @@ public class ResourceService {
             throw new InvalidPathException("Invalid path");
         }
 
-        if (path.endsWith("/")) {
-            if (!minioClientService.isPathExists(id, path)) {
-                throw new ResourceNotFoundException("Folder with this name not found");
-            }
-            deleteFolder(id, path);
-        } else {
-            if (!isFileExists(id, path)) {
-                throw new ResourceNotFoundException("File with this name not found");
+        Lock usageLock = storageUsageService.lockForChange(id);
+        try {
+            if (path.endsWith("/")) {
+                if (!directoryService.isPathExists(id, path)) {
+                    throw new ResourceNotFoundException("Folder with this name not found");
+                }
+                batchDeleteService.deleteFolder(id, path);
+            } else {
+                long size = minioClientService.statObject(id, path)
+                        .map(StatObjectResponse::size)
+                        .orElseThrow(() -> new ResourceNotFoundException("File with this name not found"));
+                minioClientService.removeObject(id, path);
+                storageUsageService.recordDelete(id, size, 1);
             }
-            minioClientService.removeObject(id, path);
+        } finally {
+            usageLock.unlock();
         }
     }
 
     public StreamingResponseBody download(Long id, String path) {
+        return download(id, path, ZipCompressionProfile.DEFAULT);
+    }
+
+    public StreamingResponseBody download(Long id, String path, ZipCompressionProfile compression) {
         if (!isPathValidToDeleteOrDownload(path)) {
             throw new InvalidPathException("Invalid path");
         }
 
         if (path.endsWith("/")) {
-            if (!minioClientService.isPathExists(id, path)) {
+            if (!directoryService.isPathExists(id, path)) {
                 throw new ResourceNotFoundException("Folder with this name not found");
             }
-            return downloadFolder(id, path);
+            return downloadFolder(id, path, compression);
         }
 
         if (!isFileExists(id, path)) {
@@ -122,18 +152,70 @@ public class ResourceService {
         return downloadFile(id, path);
     }
 
+    public StatObjectResponse getFileInfo(Long id, String path) {
+        if (!isPathValidToDeleteOrDownload(path) || path.endsWith("/")) {
+            throw new InvalidPathException("Invalid path");
+        }
+        return minioClientService.statObject(id, path)
+                .orElseThrow(() -> new ResourceNotFoundException("File with this name not found"));
+    }
+
+    /**
+     * Stats the file bypassing the metadata cache, for responses whose validators must describe the body served.
+     */
+    public StatObjectResponse getCurrentFileInfo(Long id, String path) {
+        if (!isPathValidToDeleteOrDownload(path) || path.endsWith("/")) {
+            throw new InvalidPathException("Invalid path");
+        }
+        return minioClientService.statObjectUncached(id, path)
+                .orElseThrow(() -> new ResourceNotFoundException("File with this name not found"));
+    }
+
+    public StreamingResponseBody downloadFile(Long id, String path, StatObjectResponse file) {
+        InputStream object = minioClientService.getObject(id, path, file, null, null);
+        return streamObject(id, path, () -> object);
+    }
+
+    public StreamingResponseBody downloadFileRange(Long id, String path, StatObjectResponse file, long offset, long length) {
+        InputStream object = minioClientService.getObject(id, path, file, offset, length);
+        return streamObject(id, path, () -> object);
+    }
+
+    public URI getDownloadUrl(Long id, String path, String contentDisposition) {
+        if (!isPathValidToDeleteOrDownload(path) || path.endsWith("/")) {
+            throw new InvalidPathException("Invalid path");
+        }
+        if (!isFileExists(id, path)) {
+            throw new ResourceNotFoundException("File with this name not found");
+        }
+        return minioClientService.findBlobObjectName(id, path)
+                .map(objectName -> presignedUrlService.getDownloadUrl(objectName, contentDisposition))
+                .orElseGet(() -> presignedUrlService.getDownloadUrl(id, path, contentDisposition));
+    }
+
     public ResourceResponseDto move(Long id, String currentPath, String newPath) {
         moveOperationValidator.validate(id, currentPath, newPath);
-        return newPath.endsWith("/") ?
-                moveFolder(currentPath, newPath, id) :
-                moveFile(currentPath, newPath, id);
+        Lock usageLock = storageUsageService.lockForChange(id);
+        try {
+            return newPath.endsWith("/") ?
+                    moveFolder(currentPath, newPath, id) :
+                    moveFile(currentPath, newPath, id);
+        } finally {
+            usageLock.unlock();
+        }
     }
 
     public List<ResourceResponseDto> search(Long id, String query) {
+        if (resourceMetadataService.isEnabled()) {
+            return resourceMetadataService.search(id, query).stream()
+                    .map(resource -> fileSystemMapper.metadataToDto(resource, resource.getParentPath()))
+                    .toList();
+        }
+
         Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, ROOT_PATH, TraversalMode.RECURSIVE);
         List<Item> items = directoryService.extractAndFilterItemsFromMinio(minioObjects, id, ROOT_PATH);
 
-        return searchResources(items, id, query);
+        return searchResultMatcher.search(items, id, query);
     }
 
 
@@ -156,83 +238,32 @@ public class ResourceService {
     }
 
     private List<ResourceResponseDto> getUploadedFiles(MultipartFile[] files, Long id, String path) {
-        List<ResourceResponseDto> uploadedFiles = new ArrayList<>();
         Set<String> uniqueFolders = getUniqueFolders(files, path, id);
 
-        if (!uniqueFolders.isEmpty()) {
-            for (String folderPath : uniqueFolders) {
-                validateResourceNameForUpload(extractResourceName(folderPath, false));
-                minioClientService.putDirectory(id, folderPath);
-            }
+        for (String folderPath : uniqueFolders) {
+            validateResourceNameForUpload(extractResourceName(folderPath, false));
         }
-
         for (MultipartFile file : files) {
-            String fileName = file.getOriginalFilename();
-            validateResourceNameForUpload(fileName);
-            minioClientService.putFile(id, path, file);
-            uploadedFiles.add(new FileResponseDto(
-                            path,
-                            fileName,
-                            file.getSize(),
-                            ResourceType.FILE
-                    )
-            );
+            validateResourceNameForUpload(file.getOriginalFilename());
         }
-        return uploadedFiles;
-    }
 
-
-    private void deleteFolder(Long id, String path) {
-        List<ResourceResponseDto> files = directoryService.getDirectory(id, path, TraversalMode.NON_RECURSIVE);
-        for (ResourceResponseDto file : files) {
-            String pathForDelete = path + file.name();
-            if (pathForDelete.endsWith("/")) {
-                deleteFolder(id, pathForDelete);
-            } else {
-                minioClientService.removeObject(id, pathForDelete);
-            }
-        }
-        minioClientService.removeObject(id, path);
+        return parallelUploadService.upload(id, path, uniqueFolders, files);
     }
 
     private Set<String> getUniqueFolders(MultipartFile[] files, String path, Long id) {
-        Set<String> uniqueFolders = new HashSet<>();
-
-        for (MultipartFile file : files) {
-            String resourceName = path + file.getOriginalFilename();
-            for (int i = 0; i < resourceName.length(); i++) {
-                if (resourceName.charAt(i) == '/') {
-
-                    if (minioClientService.isPathExists(id, resourceName.substring(0, i + 1))) {
-                        continue;
-                    }
-
-                    uniqueFolders.add(resourceName.substring(0, i + 1));
-                }
-            }
-        }
-
-        return uniqueFolders;
+        List<String> resourcePaths = Arrays.stream(files)
+                .map(file -> path + file.getOriginalFilename())
+                .toList();
+        return ancestorFolderResolver.findMissingFolders(id, resourcePaths);
     }
 
-    private Set<String> getUniqueFolders(List<Item> items, String newPath) {
-        Set<String> uniqueFolders = new HashSet<>();
-
-        for (Item item : items) {
-            String resourceName = extractResourceName(item.objectName(), false);
-            String fullPath = newPath + resourceName;
-            for (int i = 0; i < fullPath.length(); i++) {
-                if (fullPath.charAt(i) == '/') {
-                    uniqueFolders.add(fullPath.substring(0, i + 1));
-                }
-            }
-        }
-        return uniqueFolders;
+    public StreamingResponseBody downloadFile(Long id, String path) {
+        return streamObject(id, path, () -> minioClientService.getObject(id, path));
     }
 
-    private StreamingResponseBody downloadFile(Long id, String path) {
+    private StreamingResponseBody streamObject(Long id, String path, Supplier<InputStream> objectSupplier) {
         return outputStream -> {
-            try (InputStream object = minioClientService.getObject(id, path)) {
+            try (InputStream object = objectSupplier.get()) {
                 byte[] data = new byte[BUFFER_SIZE_1KB];
                 int bytesRead;
                 while ((bytesRead = object.read(data)) != END_OF_INPUT_STREAM) {
@@ -247,35 +278,43 @@ public class ResourceService {
         };
     }
 
-    private StreamingResponseBody downloadFolder(Long id, String path) {
+    private StreamingResponseBody downloadFolder(Long id, String path, ZipCompressionProfile compression) {
         return output -> {
-            Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, path, TraversalMode.RECURSIVE);
-            List<Item> items = directoryService.extractAndFilterItemsFromMinio(minioObjects, id, path);
-            buildZipFromItems(output, path, id, items);
+            List<ArchiveEntry> entries = resourceMetadataService.isEnabled()
+                    ? getArchiveEntriesFromIndex(id, path)
+                    : getArchiveEntriesFromMinio(id, path);
+            zipArchiveService.write(output, entries, objectPath -> minioClientService.getObject(id, objectPath), compression);
         };
     }
 
-    private void buildZipFromItems(OutputStream output, String path, Long id, List<Item> items) throws IOException {
-        try (ZipOutputStream zip = new ZipOutputStream(output)) {
-            String parentPath = extractParentPath(path);
-            Path parentDirectory = Paths.get(parentPath);
+    private List<ArchiveEntry> getArchiveEntriesFromMinio(Long id, String path) {
+        Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, path, TraversalMode.RECURSIVE);
+        List<Item> items = directoryService.extractAndFilterItemsFromMinio(minioObjects, id, path);
+        Path parentDirectory = Paths.get(extractParentPath(path));
+        List<ArchiveEntry> entries = new ArrayList<>(items.size());
 
-            for (Item item : items) {
-                if (item.objectName().endsWith("/")) {
-                    continue;
-                }
+        for (Item item : items) {
+            if (item.objectName().endsWith("/")) {
+                continue;
+            }
 
-                String pathWithoutRoot = storagePathService.deleteRootPath(item.objectName(), id);
-                String relativePath = convertToRelativePath(pathWithoutRoot, parentDirectory);
+            String pathWithoutRoot = storagePathService.deleteRootPath(item.objectName(), id);
+            String relativePath = convertToRelativePath(pathWithoutRoot, parentDirectory);
+            entries.add(new ArchiveEntry(relativePath, pathWithoutRoot, item.size()));
+        }
+        return entries;
+    }
 
-                zip.putNextEntry(new ZipEntry(relativePath));
+    private List<ArchiveEntry> getArchiveEntriesFromIndex(Long id, String path) {
+        Path parentDirectory = Paths.get(extractParentPath(path));
 
-                try (InputStream object = minioClientService.getObject(id, pathWithoutRoot)) {
-                    IOUtils.copy(object, zip);
-                }
-                zip.closeEntry();
-            }
-        }
+        return resourceMetadataService.getDescendants(id, path).stream()
+                .filter(resource -> !resource.isDirectory())
+                .map(resource -> new ArchiveEntry(
+                        convertToRelativePath(resource.getPath(), parentDirectory),
+                        resource.getPath(),
+                        resource.getSize()))
+                .toList();
     }
 
     private FileResponseDto moveFile(String currentPath, String newPath, Long id) {
@@ -284,8 +323,13 @@ public class ResourceService {
                 .map(StatObjectResponse::size)
                 .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
 
-        minioClientService.copyObject(id, currentPath, newPath);
-        delete(id, currentPath);
+        if (resourceMetadataService.isNamespaceEnabled()) {
+            minioClientService.moveTree(id, currentPath, newPath);
+        } else {
+            minioClientService.copyObject(id, currentPath, newPath);
+            storageUsageService.recordUpload(id, size, 1);
+            delete(id, currentPath);
+        }
 
         return new FileResponseDto(
                 extractParentPath(newPath),
@@ -298,29 +342,7 @@ public class ResourceService {
     private FolderResponseDto moveFolder(String currentPath, String newPath, long id) {
         String folderName = extractResourceName(newPath, true);
 
-        Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, currentPath, TraversalMode.RECURSIVE);
-        List<Item> items = directoryService.extractAndFilterItemsFromMinio(minioObjects, id, currentPath);
-
-        if (items.isEmpty()) {
-            minioClientService.copyObject(id, currentPath, newPath);
-            minioClientService.putDirectory(id, newPath);
-        }
-
-        Set<String> uniqueFolders = getUniqueFolders(items, newPath);
-
-        if (!uniqueFolders.isEmpty()) {
-            for (String name : uniqueFolders) {
-                minioClientService.putDirectory(id, name);
-            }
-        }
-
-        for (Item item : items) {
-            String relativeResourcePath = storagePathService.buildRelativePathFromMinioItem(item, currentPath, id);
-            String fullCurrentPath = currentPath + relativeResourcePath;
-            String fullNewPath = newPath + relativeResourcePath;
-            minioClientService.copyObject(id, fullCurrentPath, fullNewPath);
-        }
-        delete(id, currentPath);
+        folderMoveService.moveFolder(id, currentPath, newPath);
 
         return new FolderResponseDto(
                 extractParentPath(newPath),
@@ -344,6 +366,10 @@ public class ResourceService {
 
         String folderName = fileName.substring(0, fileName.indexOf("/") + 1);
 
+        if (resourceMetadataService.isEnabled()) {
+            return !folderName.isEmpty() && directoryService.isPathExists(id, path + folderName);
+        }
+
         Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, path, TraversalMode.NON_RECURSIVE);
         List<Item> items = directoryService.extractAndFilterItemsFromMinio(minioObjects, id, path);
 
@@ -358,35 +384,4 @@ public class ResourceService {
         return false;
     }
 
-    private List<ResourceResponseDto> searchResources(List<Item> items, Long id, String query) {
-        List<ResourceResponseDto> queryResults = new ArrayList<>();
-
-        for (Item item : items) {
-            String relativePath = storagePathService.deleteRootPath(item.objectName(), id);
-            boolean isTrailingSlash = relativePath.endsWith("/") || relativePath.isEmpty();
-            String resourceName = extractResourceName(relativePath, isTrailingSlash);
-
-            if (resourceName.toLowerCase().contains(query.toLowerCase())) {
-                String parentPath = extractParentPath(relativePath);
-
-                if (resourceName.endsWith("/")) {
-                    queryResults.add(new FolderResponseDto(
-                            parentPath,
-                            resourceName,
-                            ResourceType.DIRECTORY
-                    ));
-                } else {
-                    queryResults.add(new FileResponseDto(
-                            parentPath,
-                            resourceName,
-                            item.size(),
-                            ResourceType.FILE
-                    ));
-                }
-
-            }
-        }
-        return queryResults;
-    }
-
 }
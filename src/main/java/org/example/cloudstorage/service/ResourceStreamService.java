@@ -0,0 +1,147 @@
+package org.example.cloudstorage.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.exception.InvalidPathException;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.exception.ResourceNotFoundException;
+import org.example.cloudstorage.mapper.FileSystemMapper;
+import org.example.cloudstorage.model.TraversalMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.example.cloudstorage.validation.PathAndNameValidator.isPathValid;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResourceStreamService {
+
+    private static final String ROOT_PATH = "";
+    private static final int LINE_SEPARATOR = '\n';
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final MinioClientService minioClientService;
+    private final DirectoryService directoryService;
+    private final SearchResultMatcher searchResultMatcher;
+    private final ResourceMetadataService resourceMetadataService;
+    private final StoragePathService storagePathService;
+    private final FileSystemMapper fileSystemMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${storage.stream.max-results:100000}")
+    private int maxResults;
+
+    public StreamingResponseBody streamSearch(Long id, String query) {
+        if (resourceMetadataService.isEnabled()) {
+            List<ResourceResponseDto> results = resourceMetadataService.search(id, query, maxResults).stream()
+                    .map(resource -> fileSystemMapper.metadataToDto(resource, resource.getParentPath()))
+                    .toList();
+            return output -> writeAll(output, id, results);
+        }
+
+        String normalizedQuery = query.toLowerCase();
+        return output -> writeItems(output, id, ROOT_PATH,
+                item -> searchResultMatcher.match(item, id, normalizedQuery));
+    }
+
+    public StreamingResponseBody streamDirectory(Long id, String path, TraversalMode traversalMode) {
+        if (!isPathValid(path)) {
+            throw new InvalidPathException("Invalid path");
+        }
+        if (!directoryService.isPathExists(id, path)) {
+            throw new ResourceNotFoundException("Folder with this name not found");
+        }
+
+        if (resourceMetadataService.isEnabled() || traversalMode == TraversalMode.NON_RECURSIVE) {
+            List<ResourceResponseDto> results = directoryService.getDirectory(id, path, traversalMode);
+            return output -> writeAll(output, id, results);
+        }
+        return output -> writeItems(output, id, path, item -> fileSystemMapper.itemToDto(item, path));
+    }
+
+    private void writeAll(OutputStream output, Long id, List<ResourceResponseDto> results) {
+        ResultWriter writer = new ResultWriter(output);
+        try {
+            for (ResourceResponseDto result : results) {
+                if (!writer.write(result)) {
+                    break;
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            log.debug("Client disconnected after {} streamed results for user {}", writer.count, id);
+        }
+    }
+
+    private void writeItems(OutputStream output, Long id, String path,
+                            Function<Item, ResourceResponseDto> itemMapper) {
+        String folderObjectName = storagePathService.buildRootPath(id) + path;
+        Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, path, TraversalMode.RECURSIVE);
+        ResultWriter writer = new ResultWriter(output);
+
+        try {
+            for (Result<Item> minioObject : minioObjects) {
+                Item item = getItem(minioObject, id, path);
+                if (item.objectName().equals(folderObjectName)) {
+                    continue;
+                }
+                ResourceResponseDto result = itemMapper.apply(item);
+                if (result != null && !writer.write(result)) {
+                    log.info("Streamed result cap of {} reached for user {} path: {}", maxResults, id, path);
+                    break;
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            log.debug("Client disconnected after {} streamed results for user {} path: {}", writer.count, id, path);
+        }
+    }
+
+    private Item getItem(Result<Item> minioObject, Long id, String path) {
+        try {
+            return minioObject.get();
+        } catch (Exception e) {
+            throw new MinioOperationException("Failed to extract items from MinIO for user with id " + id + " and path " + path, e);
+        }
+    }
+
+    private class ResultWriter {
+
+        private final OutputStream output;
+        private int count;
+
+        ResultWriter(OutputStream output) {
+            this.output = output;
+        }
+
+        boolean write(ResourceResponseDto result) throws IOException {
+            if (count >= maxResults) {
+                return false;
+            }
+            output.write(objectMapper.writeValueAsBytes(result));
+            output.write(LINE_SEPARATOR);
+            count++;
+
+            if (count == 1 || count % FLUSH_INTERVAL == 0) {
+                output.flush();
+            }
+            return true;
+        }
+
+        void flush() throws IOException {
+            output.flush();
+        }
+    }
+
+}
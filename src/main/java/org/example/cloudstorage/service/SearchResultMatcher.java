@@ -0,0 +1,61 @@
+package org.example.cloudstorage.service;
+
+import io.minio.messages.Item;
+import lombok.RequiredArgsConstructor;
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.dto.resourceResponseDto.FolderResponseDto;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.model.ResourceType;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.cloudstorage.utils.PathUtils.extractParentPath;
+import static org.example.cloudstorage.utils.PathUtils.extractResourceName;
+
+@Service
+@RequiredArgsConstructor
+public class SearchResultMatcher {
+
+    private final StoragePathService storagePathService;
+
+    public List<ResourceResponseDto> search(List<Item> items, Long id, String query) {
+        List<ResourceResponseDto> queryResults = new ArrayList<>();
+        String normalizedQuery = query.toLowerCase();
+
+        for (Item item : items) {
+            ResourceResponseDto result = match(item, id, normalizedQuery);
+            if (result != null) {
+                queryResults.add(result);
+            }
+        }
+        return queryResults;
+    }
+
+    public ResourceResponseDto match(Item item, Long id, String normalizedQuery) {
+        String relativePath = storagePathService.deleteRootPath(item.objectName(), id);
+        boolean isTrailingSlash = relativePath.endsWith("/") || relativePath.isEmpty();
+        String resourceName = extractResourceName(relativePath, isTrailingSlash);
+
+        if (!resourceName.toLowerCase().contains(normalizedQuery)) {
+            return null;
+        }
+
+        String parentPath = extractParentPath(relativePath);
+        if (resourceName.endsWith("/")) {
+            return new FolderResponseDto(
+                    parentPath,
+                    resourceName,
+                    ResourceType.DIRECTORY
+            );
+        }
+        return new FileResponseDto(
+                parentPath,
+                resourceName,
+                item.size(),
+                ResourceType.FILE
+        );
+    }
+
+}
@@ -0,0 +1,255 @@
+package org.example.cloudstorage.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.cloudstorage.model.TraversalMode;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Service
+public class StorageOperationMetrics {
+
+    private static final String OPERATION_TIMER = "storage.minio.operations";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String OUTCOME_STOPPED = "stopped";
+    private static final String NO_TRAVERSAL = "none";
+    private static final Cleaner LISTING_CLEANER = Cleaner.create();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Counter uploadedBytes;
+    private final Counter downloadedBytes;
+    private final AtomicInteger activeDownloads = new AtomicInteger();
+
+    public StorageOperationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.uploadedBytes = Counter.builder("storage.minio.bytes")
+                .description("Bytes transferred to and from MinIO")
+                .baseUnit("bytes")
+                .tag("direction", "upload")
+                .register(meterRegistry);
+        this.downloadedBytes = Counter.builder("storage.minio.bytes")
+                .description("Bytes transferred to and from MinIO")
+                .baseUnit("bytes")
+                .tag("direction", "download")
+                .register(meterRegistry);
+        meterRegistry.gauge("storage.minio.downloads.active", activeDownloads);
+    }
+
+    public <T> T record(String operation, Supplier<T> action) {
+        return record(operation, null, action);
+    }
+
+    public <T> T record(String operation, TraversalMode traversalMode, Supplier<T> action) {
+        long start = System.nanoTime();
+        String outcome = OUTCOME_ERROR;
+        try {
+            T result = action.get();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } finally {
+            recordCall(operation, outcome, traversalMode, System.nanoTime() - start, RequestStorageStats.current());
+        }
+    }
+
+    public void record(String operation, Runnable action) {
+        record(operation, null, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> Iterable<T> recordListing(String operation, TraversalMode traversalMode, Iterable<T> listing) {
+        return () -> new TimedIterator<>(operation, traversalMode, listing.iterator(), RequestStorageStats.current());
+    }
+
+    public void recordUpload(long bytes) {
+        if (bytes > 0) {
+            uploadedBytes.increment(bytes);
+            RequestStorageStats stats = RequestStorageStats.current();
+            if (stats != null) {
+                stats.recordUpload(bytes);
+            }
+        }
+    }
+
+    public InputStream trackDownload(InputStream stream) {
+        return new DownloadStream(stream, RequestStorageStats.current());
+    }
+
+    private void recordCall(String operation, String outcome, TraversalMode traversalMode, long nanos,
+                            RequestStorageStats stats) {
+        timer(operation, outcome, traversalMode).record(nanos, TimeUnit.NANOSECONDS);
+        if (stats != null) {
+            stats.recordCall(operation, nanos);
+        }
+    }
+
+    private Timer timer(String operation, String outcome, TraversalMode traversalMode) {
+        String traversal = traversalMode == null ? NO_TRAVERSAL : traversalMode.name().toLowerCase();
+        return timers.computeIfAbsent(new TimerKey(operation, outcome, traversal), key -> Timer.builder(OPERATION_TIMER)
+                .description("Duration of MinIO storage operations")
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .tag("traversal", key.traversal())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private record TimerKey(String operation, String outcome, String traversal) {
+    }
+
+    /**
+     * Times the MinIO iterator itself, since listings are lazy. The listing is recorded when it is exhausted or
+     * fails; a listing the caller stops reading early is recorded with outcome "stopped" once its iterator is
+     * collected. The request's call count is charged up front so Server-Timing sees it either way.
+     */
+    private final class TimedIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> delegate;
+        private final RequestStorageStats stats;
+        private final ListingTiming timing;
+        private final Cleaner.Cleanable cleanable;
+
+        private TimedIterator(String operation, TraversalMode traversalMode, Iterator<T> delegate,
+                              RequestStorageStats stats) {
+            this.delegate = delegate;
+            this.stats = stats;
+            this.timing = new ListingTiming(operation, traversalMode);
+            this.cleanable = LISTING_CLEANER.register(this, timing);
+            if (stats != null) {
+                stats.recordCall(operation, 0);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            long start = System.nanoTime();
+            boolean hasNext;
+            try {
+                hasNext = delegate.hasNext();
+            } catch (RuntimeException e) {
+                elapsed(start);
+                finish(OUTCOME_ERROR);
+                throw e;
+            }
+            elapsed(start);
+            if (!hasNext) {
+                finish(OUTCOME_SUCCESS);
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            long start = System.nanoTime();
+            try {
+                return delegate.next();
+            } finally {
+                elapsed(start);
+            }
+        }
+
+        private void elapsed(long start) {
+            long nanos = System.nanoTime() - start;
+            timing.add(nanos);
+            if (stats != null) {
+                stats.recordStorageTime(nanos);
+            }
+        }
+
+        private void finish(String outcome) {
+            timing.finish(outcome);
+            cleanable.clean();
+        }
+    }
+
+    private final class ListingTiming implements Runnable {
+
+        private final String operation;
+        private final TraversalMode traversalMode;
+        private final AtomicLong elapsedNanos = new AtomicLong();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private ListingTiming(String operation, TraversalMode traversalMode) {
+            this.operation = operation;
+            this.traversalMode = traversalMode;
+        }
+
+        private void add(long nanos) {
+            elapsedNanos.addAndGet(nanos);
+        }
+
+        private void finish(String outcome) {
+            if (recorded.compareAndSet(false, true)) {
+                timer(operation, outcome, traversalMode).record(elapsedNanos.get(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void run() {
+            finish(OUTCOME_STOPPED);
+        }
+    }
+
+    private final class DownloadStream extends FilterInputStream {
+
+        private final RequestStorageStats stats;
+        private boolean closed;
+
+        private DownloadStream(InputStream stream, RequestStorageStats stats) {
+            super(stream);
+            this.stats = stats;
+            activeDownloads.incrementAndGet();
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                recordDownload(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                recordDownload(count);
+            }
+            return count;
+        }
+
+        private void recordDownload(int bytes) {
+            downloadedBytes.increment(bytes);
+            if (stats != null) {
+                stats.recordDownload(bytes);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                activeDownloads.decrementAndGet();
+            }
+            super.close();
+        }
+    }
+
+}
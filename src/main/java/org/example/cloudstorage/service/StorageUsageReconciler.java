@@ -0,0 +1,112 @@
+package org.example.cloudstorage.service;
+
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.model.StorageUsage;
+import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.Lock;
+
+@Slf4j
+@Service
+public class StorageUsageReconciler {
+
+    private static final String ROOT_PATH = "";
+
+    private final MinioClientService minioClientService;
+    private final StorageUsageService storageUsageService;
+    private final UserRepository userRepository;
+    private final ResourceMetadataService resourceMetadataService;
+    private final DeduplicatedStorageService deduplicatedStorageService;
+    private final ExecutorService storageReconcileExecutor;
+
+    public StorageUsageReconciler(MinioClientService minioClientService,
+                                  StorageUsageService storageUsageService,
+                                  UserRepository userRepository,
+                                  ResourceMetadataService resourceMetadataService,
+                                  DeduplicatedStorageService deduplicatedStorageService,
+                                  @Qualifier("storageReconcileExecutor") ExecutorService storageReconcileExecutor) {
+        this.minioClientService = minioClientService;
+        this.storageUsageService = storageUsageService;
+        this.userRepository = userRepository;
+        this.resourceMetadataService = resourceMetadataService;
+        this.deduplicatedStorageService = deduplicatedStorageService;
+        this.storageReconcileExecutor = storageReconcileExecutor;
+    }
+
+    /**
+     * Scans run on their own small pool so full bucket listings never queue ahead of interactive
+     * downloads, deletes and uploads on the shared storage executor.
+     */
+    @Scheduled(cron = "${storage.usage.reconcile-cron:-}")
+    public void reconcileAll() {
+        List<Long> ids = userRepository.findAllIds();
+        List<CompletableFuture<Void>> scans = ids.stream()
+                .map(id -> CompletableFuture.runAsync(() -> reconcile(id), storageReconcileExecutor))
+                .toList();
+
+        int failed = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            try {
+                scans.get(i).join();
+            } catch (CompletionException e) {
+                log.warn("Failed to reconcile storage usage for user {}", ids.get(i), e.getCause());
+                failed++;
+            }
+        }
+        log.info("Storage usage reconciled for {} users, {} failed", ids.size() - failed, failed);
+    }
+
+    public void reconcile(Long id) {
+        Lock lock = storageUsageService.lockForReconcile(id);
+        try {
+            StorageUsage before = storageUsageService.getUsage(id);
+            save(id, before, scan(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private UsageTotals scan(Long id) {
+        if (deduplicatedStorageService.isEnabled()) {
+            return new UsageTotals(resourceMetadataService.getTotalFileSize(id), resourceMetadataService.countFiles(id));
+        }
+
+        long bytes = 0;
+        long files = 0;
+        Iterable<Result<Item>> minioObjects = minioClientService.getListObjects(id, ROOT_PATH, TraversalMode.RECURSIVE);
+
+        try {
+            for (Result<Item> minioObject : minioObjects) {
+                Item item = minioObject.get();
+                if (item.isDir() || item.objectName().endsWith("/")) {
+                    continue;
+                }
+                bytes += item.size();
+                files++;
+            }
+        } catch (Exception e) {
+            throw new MinioOperationException("Failed to scan storage usage for user with id " + id, e);
+        }
+        return new UsageTotals(bytes, files);
+    }
+
+    private void save(Long id, StorageUsage before, UsageTotals totals) {
+        storageUsageService.reconcile(id, before, totals.bytes(), totals.files());
+        log.debug("Storage usage for user {}: {} bytes in {} files", id, totals.bytes(), totals.files());
+    }
+
+    private record UsageTotals(long bytes, long files) {
+    }
+
+}
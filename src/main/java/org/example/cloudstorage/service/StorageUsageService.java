@@ -0,0 +1,127 @@
+package org.example.cloudstorage.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.cloudstorage.exception.QuotaExceededException;
+import org.example.cloudstorage.model.StorageUsage;
+import org.example.cloudstorage.repository.StorageUsageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@RequiredArgsConstructor
+public class StorageUsageService {
+
+    private static final long UNLIMITED = 0L;
+
+    private final StorageUsageRepository storageUsageRepository;
+    private final ConcurrentMap<Long, ReadWriteLock> usageLocks = new ConcurrentHashMap<>();
+
+    @Value("${storage.quota.max-bytes:0}")
+    private long quotaBytes;
+
+    @Transactional(readOnly = true)
+    public StorageUsage getUsage(Long id) {
+        return storageUsageRepository.findById(id)
+                .orElseGet(() -> new StorageUsage(id, 0L, 0L, 0L));
+    }
+
+    public long getQuotaBytes() {
+        return quotaBytes;
+    }
+
+    public void checkQuota(Long id, long incomingBytes) {
+        if (quotaBytes == UNLIMITED) {
+            return;
+        }
+        StorageUsage usage = getUsage(id);
+        long usedBytes = usage.getUsedBytes() + usage.getReservedBytes();
+        if (incomingBytes > quotaBytes - usedBytes) {
+            throw quotaExceeded(usedBytes, incomingBytes);
+        }
+    }
+
+    /**
+     * Reservations live in their own column so that reconciling {@code used_bytes} never swallows
+     * bytes that an in-flight upload will later release.
+     */
+    @Transactional
+    public long reserve(Long id, long incomingBytes) {
+        if (quotaBytes == UNLIMITED || incomingBytes <= 0) {
+            return 0;
+        }
+        storageUsageRepository.add(id, 0, 0);
+        if (storageUsageRepository.reserve(id, incomingBytes, quotaBytes) == 0) {
+            StorageUsage usage = getUsage(id);
+            throw quotaExceeded(usage.getUsedBytes() + usage.getReservedBytes(), incomingBytes);
+        }
+        return incomingBytes;
+    }
+
+    @Transactional
+    public void release(Long id, long reservedBytes) {
+        if (reservedBytes > 0) {
+            storageUsageRepository.release(id, reservedBytes);
+        }
+    }
+
+    @Transactional
+    public void recordUpload(Long id, long bytes, long files) {
+        if (bytes == 0 && files == 0) {
+            return;
+        }
+        storageUsageRepository.add(id, bytes, files);
+    }
+
+    @Transactional
+    public void recordDelete(Long id, long bytes, long files) {
+        if (bytes == 0 && files == 0) {
+            return;
+        }
+        storageUsageRepository.add(id, -bytes, -files);
+    }
+
+    /**
+     * Held from the storage write or delete until its usage is recorded, so a reconcile scan never sees
+     * an object whose usage change lands on the other side of it.
+     */
+    public Lock lockForChange(Long id) {
+        Lock lock = usageLock(id).readLock();
+        lock.lock();
+        return lock;
+    }
+
+    /**
+     * Excludes every change for the user until released; in-flight changes finish first.
+     */
+    public Lock lockForReconcile(Long id) {
+        Lock lock = usageLock(id).writeLock();
+        lock.lock();
+        return lock;
+    }
+
+    /**
+     * Moves the counters by the gap between a scan and the usage read before it started. Callers hold
+     * {@link #lockForReconcile}, so nothing is recorded in between.
+     */
+    @Transactional
+    public void reconcile(Long id, StorageUsage before, long scannedBytes, long scannedFiles) {
+        storageUsageRepository.add(id, scannedBytes - before.getUsedBytes(), scannedFiles - before.getFileCount());
+    }
+
+    private ReadWriteLock usageLock(Long id) {
+        return usageLocks.computeIfAbsent(id, key -> new ReentrantReadWriteLock(true));
+    }
+
+    private QuotaExceededException quotaExceeded(long usedBytes, long incomingBytes) {
+        return new QuotaExceededException(String.format(
+                "Storage quota exceeded: %d of %d bytes used, %d more requested", usedBytes, quotaBytes, incomingBytes));
+    }
+
+}
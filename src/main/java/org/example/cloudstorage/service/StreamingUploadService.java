@@ -0,0 +1,146 @@
+package org.example.cloudstorage.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.exception.FileUploadException;
+import org.example.cloudstorage.exception.InvalidPathException;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.exception.ResourceExistsException;
+import org.example.cloudstorage.model.ResourceType;
+import org.example.cloudstorage.utils.CountingInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import static org.example.cloudstorage.validation.PathAndNameValidator.isPathValid;
+import static org.example.cloudstorage.validation.PathAndNameValidator.validateResourceNameForUpload;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreamingUploadService {
+
+    private static final String FILE_FIELD_NAME = "object";
+
+    private final MinioClientService minioClientService;
+    private final DirectoryService directoryService;
+    private final StorageUsageService storageUsageService;
+
+    @Value("${storage.upload.stream-max-size:10737418240}")
+    private long maxRequestSize;
+
+    public List<ResourceResponseDto> upload(Long id, String path, HttpServletRequest request) {
+        if (!isPathValid(path)) {
+            throw new InvalidPathException("Invalid path");
+        }
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new MultipartException("Request must be multipart/form-data");
+        }
+        Lock usageLock = storageUsageService.lockForChange(id);
+        try {
+            return uploadItems(id, path, request, storageUsageService.reserve(id, Math.max(request.getContentLengthLong(), 0)));
+        } finally {
+            usageLock.unlock();
+        }
+    }
+
+    private List<ResourceResponseDto> uploadItems(Long id, String path, HttpServletRequest request, long reservedBytes) {
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> fileUpload = new JakartaServletFileUpload<>();
+        fileUpload.setSizeMax(maxRequestSize);
+
+        List<ResourceResponseDto> uploadedFiles = new ArrayList<>();
+        Set<String> knownFolders = new HashSet<>();
+
+        try {
+            FileItemInputIterator items = fileUpload.getItemIterator(request);
+            while (items.hasNext()) {
+                FileItemInput item = items.next();
+                if (item.isFormField() || !FILE_FIELD_NAME.equals(item.getFieldName())) {
+                    continue;
+                }
+                uploadedFiles.add(uploadItem(id, path, item, knownFolders, uploadedFiles.isEmpty()));
+            }
+        } catch (FileUploadSizeException exception) {
+            throw new MaxUploadSizeExceededException(maxRequestSize, exception);
+        } catch (MinioOperationException exception) {
+            // the size limit is enforced while MinIO reads the part, so it surfaces wrapped in the put failure
+            FileUploadSizeException sizeException = findSizeException(exception);
+            if (sizeException != null) {
+                throw new MaxUploadSizeExceededException(maxRequestSize, sizeException);
+            }
+            throw exception;
+        } catch (IOException exception) {
+            log.warn("Streaming upload failed for user {} path: {}", id, path, exception);
+            throw new FileUploadException(
+                    String.format("Failed to read upload stream in path: '%s' for user %d", path, id), exception
+            );
+        } finally {
+            storageUsageService.release(id, reservedBytes);
+        }
+
+        if (uploadedFiles.isEmpty()) {
+            throw new InvalidPathException("File list cannot be empty");
+        }
+        return uploadedFiles;
+    }
+
+    private FileResponseDto uploadItem(Long id, String path, FileItemInput item, Set<String> knownFolders,
+                                       boolean isFirstItem) throws IOException {
+        String fileName = item.getName();
+        if (fileName == null || fileName.isEmpty()) {
+            throw new InvalidPathException("File list cannot be empty");
+        }
+        validateResourceNameForUpload(fileName);
+
+        String fullFilePath = path + fileName;
+        if (isFirstItem && isTopFolderExists(id, path, fileName)) {
+            throw new ResourceExistsException("Resource with this name already exists in this directory");
+        }
+        if (minioClientService.statObject(id, fullFilePath).isPresent()) {
+            throw new ResourceExistsException("File with this name already exists");
+        }
+
+        directoryService.createParentFolders(id, fullFilePath, knownFolders);
+
+        try (CountingInputStream stream = new CountingInputStream(item.getInputStream())) {
+            minioClientService.putStream(id, fullFilePath, stream, item.getContentType());
+            storageUsageService.recordUpload(id, stream.getCount(), 1);
+            return new FileResponseDto(path, fileName, stream.getCount(), ResourceType.FILE);
+        }
+    }
+
+    private FileUploadSizeException findSizeException(Throwable exception) {
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof FileUploadSizeException sizeException) {
+                return sizeException;
+            }
+        }
+        return null;
+    }
+
+    private boolean isTopFolderExists(Long id, String path, String fileName) {
+        int separatorIndex = fileName.indexOf('/');
+        if (separatorIndex < 0) {
+            return false;
+        }
+        return directoryService.isPathExists(id, path + fileName.substring(0, separatorIndex + 1));
+    }
+
+}
@@ -0,0 +1,222 @@
+package org.example.cloudstorage.service;
+
+import io.minio.messages.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadPartResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadPartUrlResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadSessionResponseDto;
+import org.example.cloudstorage.exception.InvalidPathException;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.exception.ResourceExistsException;
+import org.example.cloudstorage.exception.ResourceNotFoundException;
+import org.example.cloudstorage.exception.UploadSessionException;
+import org.example.cloudstorage.model.ResourceType;
+import org.example.cloudstorage.model.UploadSession;
+import org.example.cloudstorage.repository.UploadSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.EOFException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+
+import static org.example.cloudstorage.validation.PathAndNameValidator.isPathValid;
+import static org.example.cloudstorage.validation.PathAndNameValidator.validateResourceNameForUpload;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+
+    private static final int MIN_PART_NUMBER = 1;
+    private static final int MAX_PART_NUMBER = 10000;
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final MinioClientService minioClientService;
+    private final DirectoryService directoryService;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final PresignedUrlService presignedUrlService;
+    private final StorageUsageService storageUsageService;
+
+    @Value("${storage.upload-session.max-part-size:67108864}")
+    private long maxPartSize;
+
+    public UploadSessionResponseDto create(Long id, String path, String name, String contentType, long size) {
+        if (!isPathValid(path)) {
+            throw new InvalidPathException("Invalid path");
+        }
+        validateResourceNameForUpload(name);
+        if (size <= 0) {
+            throw new UploadSessionException("File size must be positive");
+        }
+
+        if (!directoryService.isPathExists(id, path)) {
+            throw new ResourceNotFoundException("Parent path not found.");
+        }
+        if (minioClientService.statObject(id, path + name).isPresent()) {
+            throw new ResourceExistsException("File with this name already exists");
+        }
+        storageUsageService.checkQuota(id, size);
+
+        String uploadId = minioClientService.createMultipartUpload(id, path + name, contentType);
+        UploadSession session = new UploadSession(UUID.randomUUID().toString(), id, path, name, uploadId, size);
+        uploadSessionRepository.save(session);
+
+        log.info("Upload session {} created for user {} path: {}", session.id(), id, session.fullPath());
+        return new UploadSessionResponseDto(session.id(), path, name, List.of());
+    }
+
+    public UploadPartResponseDto uploadPart(Long id, String sessionId, int partNumber, InputStream data, long size) {
+        UploadSession session = getSession(id, sessionId);
+
+        validatePartNumber(partNumber);
+        if (size <= 0 || size > maxPartSize) {
+            throw new UploadSessionException(String.format("Part size must be between 1 and %d bytes", maxPartSize));
+        }
+
+        List<Part> otherParts = minioClientService.listParts(id, session.fullPath(), session.uploadId()).stream()
+                .filter(part -> part.partNumber() != partNumber)
+                .toList();
+        boolean hasLaterPart = otherParts.stream().anyMatch(part -> part.partNumber() > partNumber);
+        boolean hasSmallEarlierPart = otherParts.stream()
+                .anyMatch(part -> part.partNumber() < partNumber && part.partSize() < MIN_PART_SIZE);
+        if ((size < MIN_PART_SIZE && hasLaterPart) || hasSmallEarlierPart) {
+            throw new UploadSessionException(minPartSizeMessage());
+        }
+
+        long uploadedBytes = otherParts.stream()
+                .mapToLong(Part::partSize)
+                .sum();
+        if (uploadedBytes + size > session.size()) {
+            throw new UploadSessionException(String.format(
+                    "Uploaded parts would exceed the declared file size of %d bytes", session.size()));
+        }
+
+        try {
+            String etag = minioClientService.uploadPart(id, session.fullPath(), session.uploadId(), partNumber, data, size);
+            return new UploadPartResponseDto(partNumber, etag, size);
+        } catch (MinioOperationException exception) {
+            if (exception.getCause() instanceof EOFException) {
+                throw new UploadSessionException("Part body is shorter than its declared size");
+            }
+            throw exception;
+        }
+    }
+
+    public UploadPartUrlResponseDto getPartUploadUrl(Long id, String sessionId, int partNumber) {
+        UploadSession session = getSession(id, sessionId);
+        validatePartNumber(partNumber);
+
+        URI url = presignedUrlService.getUploadPartUrl(id, session.fullPath(), session.uploadId(), partNumber);
+        Instant expiresAt = Instant.now().plus(presignedUrlService.getUploadExpiry());
+        return new UploadPartUrlResponseDto(partNumber, url.toString(), expiresAt);
+    }
+
+    public UploadSessionResponseDto getUploadedParts(Long id, String sessionId) {
+        UploadSession session = getSession(id, sessionId);
+        List<UploadPartResponseDto> parts = minioClientService.listParts(id, session.fullPath(), session.uploadId())
+                .stream()
+                .map(part -> new UploadPartResponseDto(part.partNumber(), part.etag(), part.partSize()))
+                .toList();
+
+        return new UploadSessionResponseDto(session.id(), session.path(), session.name(), parts);
+    }
+
+    public FileResponseDto complete(Long id, String sessionId) {
+        UploadSession session = getSession(id, sessionId);
+        if (!isPathValid(session.path())) {
+            throw new InvalidPathException("Invalid path");
+        }
+        validateResourceNameForUpload(session.name());
+
+        List<Part> parts = minioClientService.listParts(id, session.fullPath(), session.uploadId());
+
+        if (parts.isEmpty()) {
+            throw new UploadSessionException("Upload session has no uploaded parts");
+        }
+        validateUploadedParts(session, parts);
+        if (minioClientService.statObject(id, session.fullPath()).isPresent()) {
+            throw new ResourceExistsException("File with this name already exists");
+        }
+        long size = session.size();
+        Lock usageLock = storageUsageService.lockForChange(id);
+        try {
+            long reservedBytes = storageUsageService.reserve(id, size);
+            try {
+                directoryService.createParentFolders(id, session.fullPath(), new HashSet<>());
+                List<Part> completedParts = parts.stream()
+                        .map(part -> new Part(part.partNumber(), part.etag()))
+                        .toList();
+                minioClientService.completeMultipartUpload(id, session.fullPath(), session.uploadId(), completedParts);
+                storageUsageService.recordUpload(id, size, 1);
+            } finally {
+                storageUsageService.release(id, reservedBytes);
+            }
+        } finally {
+            usageLock.unlock();
+        }
+        uploadSessionRepository.delete(sessionId);
+
+        log.info("Upload session {} completed for user {} path: {}", sessionId, id, session.fullPath());
+        return new FileResponseDto(session.path(), session.name(), size, ResourceType.FILE);
+    }
+
+    public void abort(Long id, String sessionId) {
+        UploadSession session = getSession(id, sessionId);
+        minioClientService.abortMultipartUpload(id, session.fullPath(), session.uploadId());
+        uploadSessionRepository.delete(sessionId);
+
+        log.info("Upload session {} aborted for user {}", sessionId, id);
+    }
+
+    private UploadSession getSession(Long id, String sessionId) {
+        return uploadSessionRepository.findById(sessionId)
+                .filter(session -> session.userId().equals(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Upload session not found"));
+    }
+
+    /**
+     * Parts sent through presigned URLs never pass through {@link #uploadPart}, so their sizes are only checked here.
+     */
+    private void validateUploadedParts(UploadSession session, List<Part> parts) {
+        List<Part> orderedParts = parts.stream()
+                .sorted(Comparator.comparingInt(Part::partNumber))
+                .toList();
+        long uploadedBytes = 0;
+        for (int i = 0; i < orderedParts.size(); i++) {
+            Part part = orderedParts.get(i);
+            if (part.partSize() > maxPartSize) {
+                throw new UploadSessionException(String.format("Part %d is larger than the limit of %d bytes",
+                        part.partNumber(), maxPartSize));
+            }
+            if (i < orderedParts.size() - 1 && part.partSize() < MIN_PART_SIZE) {
+                throw new UploadSessionException(minPartSizeMessage());
+            }
+            uploadedBytes += part.partSize();
+        }
+        if (uploadedBytes != session.size()) {
+            throw new UploadSessionException(String.format(
+                    "Uploaded parts total %d bytes but the session declared %d bytes", uploadedBytes, session.size()));
+        }
+    }
+
+    private String minPartSizeMessage() {
+        return String.format("Every part except the last must be at least %d bytes", MIN_PART_SIZE);
+    }
+
+    private void validatePartNumber(int partNumber) {
+        if (partNumber < MIN_PART_NUMBER || partNumber > MAX_PART_NUMBER) {
+            throw new UploadSessionException(String.format("Part number must be between %d and %d",
+                    MIN_PART_NUMBER, MAX_PART_NUMBER));
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.example.cloudstorage.service;
+
+import io.minio.messages.Upload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionSweeper {
+
+    private final MinioClientService minioClientService;
+
+    @Value("${storage.upload-session.ttl:24h}")
+    private Duration sessionTtl;
+
+    @Scheduled(cron = "${storage.upload-session.sweep-cron:0 0 * * * *}")
+    public void abortExpiredUploads() {
+        abortUploadsInitiatedBefore(Instant.now().minus(sessionTtl));
+    }
+
+    public int abortUploadsInitiatedBefore(Instant cutoff) {
+        int aborted = 0;
+        int failed = 0;
+        for (Upload upload : minioClientService.listMultipartUploads()) {
+            if (!upload.initiated().toInstant().isBefore(cutoff)) {
+                continue;
+            }
+            try {
+                minioClientService.abortMultipartUpload(upload.objectName(), upload.uploadId());
+                aborted++;
+            } catch (MinioOperationException e) {
+                log.warn("Failed to abort expired multipart upload {} of {}", upload.uploadId(), upload.objectName(), e);
+                failed++;
+            }
+        }
+        log.info("Aborted {} expired multipart uploads initiated before {}, {} failed", aborted, cutoff, failed);
+        return aborted;
+    }
+
+}
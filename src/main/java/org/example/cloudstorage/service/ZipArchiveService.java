@@ -0,0 +1,184 @@
+package org.example.cloudstorage.service;
+
+import org.example.cloudstorage.model.ArchiveEntry;
+import org.example.cloudstorage.model.ZipCompressionProfile;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Service
+public class ZipArchiveService {
+
+    private static final Set<String> INCOMPRESSIBLE_EXTENSIONS = Set.of(
+            "jpg", "jpeg", "png", "gif", "webp", "heic", "avif",
+            "mp4", "m4v", "mkv", "mov", "avi", "webm",
+            "mp3", "m4a", "aac", "ogg", "opus", "flac",
+            "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "zst", "jar", "apk",
+            "docx", "xlsx", "pptx", "odt", "ods", "odp", "epub"
+    );
+    private static final Set<String> COMPRESSIBLE_MEDIA_SUBTYPES = Set.of("svg+xml", "bmp", "tiff", "wav", "x-wav");
+    private static final Set<String> INCOMPRESSIBLE_MEDIA_TYPES = Set.of("image", "video", "audio");
+
+    private final ExecutorService storageZipPrefetchExecutor;
+    private final int deflateLevel;
+    private final int prefetchCount;
+    private final long maxBufferedEntrySize;
+    /**
+     * One byte budget shared by every download in flight, so concurrent zips cannot each buffer the full limit.
+     */
+    private final Semaphore bufferBudget;
+
+    public ZipArchiveService(@Qualifier("storageZipPrefetchExecutor") ExecutorService storageZipPrefetchExecutor,
+                             @Value("${storage.download.zip.deflate-level:6}") int deflateLevel,
+                             @Value("${storage.download.zip.prefetch:8}") int prefetchCount,
+                             @Value("${storage.download.zip.max-buffered-bytes:67108864}") long maxBufferedBytes,
+                             @Value("${storage.download.zip.max-buffered-entry-size:8388608}") long maxBufferedEntrySize) {
+        long budget = Math.min(maxBufferedBytes, Integer.MAX_VALUE);
+        this.storageZipPrefetchExecutor = storageZipPrefetchExecutor;
+        this.deflateLevel = deflateLevel;
+        this.prefetchCount = Math.max(1, prefetchCount);
+        this.maxBufferedEntrySize = Math.min(maxBufferedEntrySize, budget);
+        this.bufferBudget = new Semaphore((int) budget);
+    }
+
+    public void write(OutputStream output, List<ArchiveEntry> entries, ObjectStreamSource source,
+                      ZipCompressionProfile profile) throws IOException {
+        Deque<PendingEntry> window = new ArrayDeque<>(prefetchCount);
+        int nextEntry = 0;
+
+        try (ZipOutputStream zip = new ZipOutputStream(output)) {
+            while (nextEntry < entries.size() || !window.isEmpty()) {
+                while (nextEntry < entries.size() && window.size() < prefetchCount) {
+                    ArchiveEntry entry = entries.get(nextEntry);
+
+                    if (entry.size() <= maxBufferedEntrySize && bufferBudget.tryAcquire((int) entry.size())) {
+                        window.addLast(new PendingEntry(entry, prefetch(entry, source)));
+                    } else if (entry.size() > maxBufferedEntrySize || window.isEmpty()) {
+                        // nothing of ours is buffered to drain first, so stream it rather than wait on other downloads
+                        window.addLast(new PendingEntry(entry, null));
+                    } else {
+                        break;
+                    }
+                    nextEntry++;
+                }
+
+                PendingEntry current = window.pollFirst();
+                boolean isStored = profile != ZipCompressionProfile.SMALL && isIncompressible(current.entry().name());
+
+                if (current.content() == null) {
+                    zip.setLevel(isStored ? Deflater.NO_COMPRESSION : getDeflateLevel(profile));
+                    zip.putNextEntry(new ZipEntry(current.entry().name()));
+                    try (InputStream object = source.open(current.entry().objectPath())) {
+                        object.transferTo(zip);
+                    }
+                } else {
+                    byte[] content;
+                    try {
+                        content = await(current.content());
+                    } finally {
+                        bufferBudget.release((int) current.entry().size());
+                    }
+
+                    zip.setLevel(getDeflateLevel(profile));
+                    zip.putNextEntry(isStored
+                            ? storedEntry(current.entry().name(), content)
+                            : new ZipEntry(current.entry().name()));
+                    zip.write(content);
+                }
+                zip.closeEntry();
+            }
+        } finally {
+            window.forEach(pending -> {
+                if (pending.content() != null) {
+                    pending.content().cancel(false);
+                    bufferBudget.release((int) pending.entry().size());
+                }
+            });
+        }
+    }
+
+    private ZipEntry storedEntry(String name, byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(content.length);
+        entry.setCrc(crc.getValue());
+        return entry;
+    }
+
+    private int getDeflateLevel(ZipCompressionProfile profile) {
+        return switch (profile) {
+            case DEFAULT -> deflateLevel;
+            case FAST -> Deflater.BEST_SPEED;
+            case SMALL -> Deflater.BEST_COMPRESSION;
+        };
+    }
+
+    private boolean isIncompressible(String name) {
+        int extensionIndex = name.lastIndexOf('.');
+        if (extensionIndex >= 0
+                && INCOMPRESSIBLE_EXTENSIONS.contains(name.substring(extensionIndex + 1).toLowerCase(Locale.ROOT))) {
+            return true;
+        }
+
+        return MediaTypeFactory.getMediaType(name)
+                .map(mediaType -> INCOMPRESSIBLE_MEDIA_TYPES.contains(mediaType.getType())
+                        && !COMPRESSIBLE_MEDIA_SUBTYPES.contains(mediaType.getSubtype()))
+                .orElse(false);
+    }
+
+    private CompletableFuture<byte[]> prefetch(ArchiveEntry entry, ObjectStreamSource source) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try (InputStream object = source.open(entry.objectPath())) {
+                    return object.readAllBytes();
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }, storageZipPrefetchExecutor);
+        } catch (RuntimeException exception) {
+            bufferBudget.release((int) entry.size());
+            throw exception;
+        }
+    }
+
+    private byte[] await(CompletableFuture<byte[]> content) throws IOException {
+        try {
+            return content.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    private record PendingEntry(ArchiveEntry entry, CompletableFuture<byte[]> content) {
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.example.cloudstorage.utils;
+
+import org.springframework.http.HttpRange;
+
+import java.util.List;
+import java.util.Optional;
+
+public class ConditionalRequestUtils {
+
+    private static final String ANY_ENTITY_TAG = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ENTITY_TAG_SEPARATOR = ",";
+    private static final int SINGLE_RANGE = 1;
+
+    public static String toEntityTag(String etag) {
+        return "\"" + etag + "\"";
+    }
+
+    public static boolean isNoneMatchSatisfied(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(ENTITY_TAG_SEPARATOR)) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY_ENTITY_TAG)) {
+                return true;
+            }
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Optional<HttpRange> resolveRange(String rangeHeader, String ifRange, String entityTag) {
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return Optional.empty();
+        }
+        if (ifRange != null && !ifRange.trim().equals(entityTag)) {
+            return Optional.empty();
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == SINGLE_RANGE ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -7,7 +7,6 @@ import org.example.cloudstorage.exception.ResourceExistsException;
 import org.example.cloudstorage.exception.ResourceNotFoundException;
 import org.example.cloudstorage.model.TraversalMode;
 import org.example.cloudstorage.service.DirectoryService;
-import org.example.cloudstorage.service.MinioClientService;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -21,7 +20,6 @@ import static org.example.cloudstorage.validation.PathAndNameValidator.validateR
 @Component
 public class MoveOperationValidator {
 
-    private final MinioClientService minioClientService;
     private final DirectoryService directoryService;
 
     public void validate(Long id, String currentPath, String newPath) {
@@ -60,11 +58,11 @@ public class MoveOperationValidator {
         String parentCurrentPath = extractParentPath(currentPath);
         String parentNewPath = extractParentPath(newPath);
 
-        if (!minioClientService.isPathExists(id, parentCurrentPath)) {
+        if (!directoryService.isPathExists(id, parentCurrentPath)) {
             throw new ResourceNotFoundException("Current path with this name not found");
         }
 
-        if (!minioClientService.isPathExists(id, parentNewPath)) {
+        if (!directoryService.isPathExists(id, parentNewPath)) {
             throw new ResourceNotFoundException("New path with this name not found");
         }
 
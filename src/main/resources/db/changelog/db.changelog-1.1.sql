@@ -0,0 +1,17 @@
+-- liquibase formatted sql
+
+-- changeset dimka:2
+CREATE TABLE IF NOT EXISTS resources(
+    id            BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT                   NOT NULL,
+    path          VARCHAR(1024) COLLATE "C" NOT NULL,
+    parent_path   VARCHAR(1024) COLLATE "C" NOT NULL,
+    name          VARCHAR(255)             NOT NULL,
+    directory     BOOLEAN                  NOT NULL,
+    size          BIGINT                   NOT NULL,
+    etag          VARCHAR(255),
+    last_modified TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_resources_user_path UNIQUE (user_id, path)
+);
+
+CREATE INDEX IF NOT EXISTS idx_resources_user_parent ON resources (user_id, parent_path, path);
@@ -0,0 +1,6 @@
+-- liquibase formatted sql
+
+-- changeset dimka:3
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_resources_name_trgm ON resources USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,8 @@
+-- liquibase formatted sql
+
+-- changeset dimka:4
+CREATE TABLE IF NOT EXISTS storage_usage(
+    user_id    BIGINT PRIMARY KEY,
+    used_bytes BIGINT NOT NULL DEFAULT 0,
+    file_count BIGINT NOT NULL DEFAULT 0
+);
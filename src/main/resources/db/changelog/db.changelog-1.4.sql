@@ -0,0 +1,6 @@
+-- liquibase formatted sql
+
+-- changeset dimka:5
+CREATE INDEX IF NOT EXISTS idx_resources_user_parent_size ON resources (user_id, parent_path, size, path);
+
+CREATE INDEX IF NOT EXISTS idx_resources_user_parent_type ON resources (user_id, parent_path, (NOT directory), path);
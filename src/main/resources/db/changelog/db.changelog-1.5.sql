@@ -0,0 +1,11 @@
+-- liquibase formatted sql
+
+-- changeset dimka:6
+CREATE TABLE IF NOT EXISTS content_blobs(
+    hash       VARCHAR(64) PRIMARY KEY,
+    size       BIGINT                   NOT NULL,
+    ref_count  BIGINT                   NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_content_blobs_orphans ON content_blobs (updated_at) WHERE ref_count = 0;
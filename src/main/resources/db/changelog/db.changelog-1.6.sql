@@ -0,0 +1,20 @@
+-- liquibase formatted sql
+
+-- changeset dimka:7
+CREATE TABLE IF NOT EXISTS namespace_nodes(
+    id            BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT                   NOT NULL,
+    parent_id     BIGINT                   NOT NULL,
+    name          VARCHAR(255) COLLATE "C" NOT NULL,
+    directory     BOOLEAN                  NOT NULL,
+    size          BIGINT                   NOT NULL,
+    blob_hash     VARCHAR(64),
+    last_modified TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_namespace_nodes_parent_name UNIQUE (user_id, parent_id, name)
+);
+
+CREATE INDEX IF NOT EXISTS idx_namespace_nodes_parent_size ON namespace_nodes (user_id, parent_id, size, name);
+
+CREATE INDEX IF NOT EXISTS idx_namespace_nodes_parent_type ON namespace_nodes (user_id, parent_id, (NOT directory), name);
+
+CREATE INDEX IF NOT EXISTS idx_namespace_nodes_name_trgm ON namespace_nodes USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,4 @@
+-- liquibase formatted sql
+
+-- changeset dimka:8
+ALTER TABLE storage_usage ADD COLUMN IF NOT EXISTS reserved_bytes BIGINT NOT NULL DEFAULT 0;
@@ -31,6 +31,7 @@ public abstract class AbstractIntegrationTest {
 
     private static final PostgreSQLContainer<?> POSTGRESQL_CONTAINER;
     private static final GenericContainer<?> MINIO_CONTAINER;
+    private static final GenericContainer<?> REDIS_CONTAINER;
 
     static {
         POSTGRESQL_CONTAINER = new PostgreSQLContainer<>("postgres:latest")
@@ -45,6 +46,10 @@ public abstract class AbstractIntegrationTest {
                 .withEnv("MINIO_ROOT_PASSWORD", MINIO_PASSWORD)
                 .withCommand("server /data");
         MINIO_CONTAINER.start();
+
+        REDIS_CONTAINER = new GenericContainer<>("redis:latest")
+                .withExposedPorts(6379);
+        REDIS_CONTAINER.start();
     }
 
     @Autowired
@@ -76,6 +81,9 @@ public abstract class AbstractIntegrationTest {
         registry.add("MINIO_PASSWORD", () -> MINIO_PASSWORD);
         registry.add("MINIO_BUCKET_NAME", () -> MINIO_BUCKET_NAME);
 
+        registry.add("spring.data.redis.host", REDIS_CONTAINER::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS_CONTAINER.getMappedPort(6379));
+
     }
 
     @BeforeEach
@@ -0,0 +1,185 @@
+package org.example.cloudstorage;
+
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import org.example.cloudstorage.service.BlobReferenceService;
+import org.example.cloudstorage.model.StorageUsage;
+import org.example.cloudstorage.service.DeduplicatedStorageService;
+import org.example.cloudstorage.service.StorageUsageService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "storage.metadata-index.enabled=true",
+        "storage.dedup.enabled=true",
+        "storage.dedup.gc-grace=0s"
+})
+public class DeduplicationIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private DeduplicatedStorageService deduplicatedStorageService;
+
+    @Autowired
+    private BlobReferenceService blobReferenceService;
+
+    @Autowired
+    private StorageUsageService storageUsageService;
+
+    @Autowired
+    private MinioClient minioClient;
+
+    @Value("${MINIO_BUCKET_NAME}")
+    private String bucketName;
+
+    @Nested
+    class UploadTests {
+
+        @Test
+        void shouldStoreIdenticalContentOnce() throws Exception {
+            String content = "Shared content " + UUID.randomUUID();
+            String hash = sha256(content);
+
+            resourceService.upload(userId, "", createFiles(content, "first.txt", "copies/second.txt"));
+
+            assertEquals(2, blobReferenceService.getRefCount(hash));
+            assertTrue(isBlobStored(hash));
+            assertEquals(content, download("first.txt"));
+            assertEquals(content, download("copies/second.txt"));
+            assertEquals(content.length(), resourceService.getFileInfo(userId, "copies/second.txt").size());
+        }
+
+        @Test
+        void shouldMoveFileWithoutCopyingContent() throws Exception {
+            String content = "Moved content " + UUID.randomUUID();
+            String hash = sha256(content);
+
+            resourceService.upload(userId, "", createFiles(content, "draft.txt"));
+            resourceService.move(userId, "draft.txt", "final.txt");
+
+            assertEquals(1, blobReferenceService.getRefCount(hash));
+            assertEquals(content, download("final.txt"));
+        }
+    }
+
+    @Nested
+    class GarbageCollectionTests {
+
+        @Test
+        void shouldCollectBlobWhenLastReferenceIsDeleted() throws Exception {
+            String content = "Orphaned content " + UUID.randomUUID();
+            String hash = sha256(content);
+
+            resourceService.upload(userId, "", createFiles(content, "first.txt", "second.txt"));
+
+            resourceService.delete(userId, "first.txt");
+            deduplicatedStorageService.collectGarbage();
+            assertEquals(1, blobReferenceService.getRefCount(hash));
+            assertTrue(isBlobStored(hash));
+
+            resourceService.delete(userId, "second.txt");
+            deduplicatedStorageService.collectGarbage();
+            assertEquals(0, blobReferenceService.getRefCount(hash));
+            assertFalse(isBlobStored(hash));
+        }
+
+        @Test
+        void shouldReleaseBlobsWhenFolderIsDeleted() throws Exception {
+            String content = "Folder content " + UUID.randomUUID();
+            String hash = sha256(content);
+
+            resourceService.upload(userId, "", createFiles(content, "docs/first.txt", "docs/nested/second.txt", "kept.txt"));
+            assertEquals(3, blobReferenceService.getRefCount(hash));
+
+            resourceService.delete(userId, "docs/");
+
+            assertEquals(1, blobReferenceService.getRefCount(hash));
+        }
+
+        @Test
+        void shouldCollectAbandonedStagingObjects() throws Exception {
+            String stagingObject = "blobs/staging/" + UUID.randomUUID();
+            minioClient.putObject(PutObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(stagingObject)
+                    .stream(new ByteArrayInputStream(new byte[]{1}), 1, -1)
+                    .build());
+
+            assertEquals(0, deduplicatedStorageService.collectStagingObjectsBefore(Instant.now().minusSeconds(3600)));
+            assertTrue(isObjectStored(stagingObject));
+
+            assertTrue(deduplicatedStorageService.collectStagingObjectsBefore(Instant.now().plusSeconds(60)) >= 1);
+            assertFalse(isObjectStored(stagingObject));
+        }
+    }
+
+    @Nested
+    class UsageTests {
+
+        @Test
+        void shouldReleaseLogicalBytesWhenFolderIsDeleted() {
+            String content = "Counted content " + UUID.randomUUID();
+
+            resourceService.upload(userId, "", createFiles(content, "docs/first.txt", "docs/nested/second.txt", "kept.txt"));
+            assertEquals(3L * content.length(), storageUsageService.getUsage(userId).getUsedBytes());
+
+            resourceService.delete(userId, "docs/");
+
+            StorageUsage usage = storageUsageService.getUsage(userId);
+            assertEquals(content.length(), usage.getUsedBytes());
+            assertEquals(1, usage.getFileCount());
+        }
+    }
+
+    private MultipartFile[] createFiles(String content, String... names) {
+        MultipartFile[] files = new MultipartFile[names.length];
+        for (int i = 0; i < names.length; i++) {
+            files[i] = new MockMultipartFile("files", names[i], "text/plain", content.getBytes(StandardCharsets.UTF_8));
+        }
+        return files;
+    }
+
+    private String download(String path) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        resourceService.downloadFile(userId, path).writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private boolean isBlobStored(String hash) throws Exception {
+        return isObjectStored(deduplicatedStorageService.getObjectName(hash));
+    }
+
+    private boolean isObjectStored(String objectName) throws Exception {
+        try {
+            minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .build());
+            return true;
+        } catch (ErrorResponseException exception) {
+            return false;
+        }
+    }
+
+    private String sha256(String content) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
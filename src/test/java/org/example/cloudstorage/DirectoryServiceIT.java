@@ -1,15 +1,20 @@
 package org.example.cloudstorage;
 
 
+import org.example.cloudstorage.dto.resourceResponseDto.DirectoryPageResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.FolderResponseDto;
 import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
 import org.example.cloudstorage.exception.InvalidPathException;
 import org.example.cloudstorage.exception.ResourceExistsException;
 import org.example.cloudstorage.exception.ResourceNotFoundException;
+import org.example.cloudstorage.model.DirectorySort;
 import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.service.DirectoryPageService;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -18,6 +23,9 @@ public class DirectoryServiceIT extends AbstractIntegrationTest {
     private static final int EXPECTED_ROOT_DIRECTORIES_NON_RECURSIVE = 1;
     private static final int EXPECTED_ROOT_DIRECTORIES_RECURSIVE = 6;
 
+    @Autowired
+    private DirectoryPageService directoryPageService;
+
     @Nested
     class InformationAboutDirectoryTests {
 
@@ -55,6 +63,25 @@ public class DirectoryServiceIT extends AbstractIntegrationTest {
 
         }
 
+        @Test
+        void shouldRefreshCachedListingAfterChanges() {
+            String uploadedPath = "";
+            String folderPath = "docs/";
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+            List<ResourceResponseDto> beforeChanges =
+                    directoryService.getDirectory(userId, folderPath, TraversalMode.NON_RECURSIVE);
+
+            directoryService.createDirectory(userId, folderPath + "drafts/");
+            resourceService.delete(userId, folderPath + "document1.txt");
+            List<ResourceResponseDto> afterChanges =
+                    directoryService.getDirectory(userId, folderPath, TraversalMode.NON_RECURSIVE);
+
+            assertEquals(beforeChanges.size(), afterChanges.size());
+            assertTrue(afterChanges.stream().anyMatch(resource -> resource.name().equals("drafts/")));
+            assertTrue(afterChanges.stream().noneMatch(resource -> resource.name().equals("document1.txt")));
+        }
+
         @Test
         void shouldThrowInvalidPathException() {
             String uploadedPath = "";
@@ -71,6 +98,69 @@ public class DirectoryServiceIT extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    class DirectoryPageTests {
+
+        @Test
+        void shouldWalkDirectoryPagesByName() {
+            String uploadedPath = "";
+            String folderPath = "docs/";
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+
+            DirectoryPageResponseDto firstPage = directoryPageService.getPage(userId, folderPath, 2, null, DirectorySort.NAME);
+            DirectoryPageResponseDto lastPage = directoryPageService.getPage(userId, folderPath, 2, firstPage.nextCursor(), DirectorySort.NAME);
+
+            assertEquals(List.of("document1.txt", "document2.pdf"), names(firstPage));
+            assertNotNull(firstPage.nextCursor());
+            assertEquals(List.of("images/"), names(lastPage));
+            assertNull(lastPage.nextCursor());
+        }
+
+        @Test
+        void shouldWalkDirectoryPagesBySizeAndType() {
+            String uploadedPath = "";
+            String folderPath = "docs/";
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+
+            assertEquals(List.of("images/", "document2.pdf", "document1.txt"),
+                    collectPages(folderPath, DirectorySort.SIZE));
+            assertEquals(List.of("images/", "document1.txt", "document2.pdf"),
+                    collectPages(folderPath, DirectorySort.TYPE));
+        }
+
+        @Test
+        void shouldRejectCursorOfAnotherSort() {
+            String uploadedPath = "";
+            String folderPath = "docs/";
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+            DirectoryPageResponseDto page = directoryPageService.getPage(userId, folderPath, 1, null, DirectorySort.NAME);
+
+            assertThrows(InvalidPathException.class, () -> {
+                directoryPageService.getPage(userId, folderPath, 1, page.nextCursor(), DirectorySort.SIZE);
+            });
+        }
+
+        private List<String> collectPages(String path, DirectorySort sort) {
+            List<String> names = new ArrayList<>();
+            String cursor = null;
+            do {
+                DirectoryPageResponseDto page = directoryPageService.getPage(userId, path, 1, cursor, sort);
+                names.addAll(names(page));
+                cursor = page.nextCursor();
+            } while (cursor != null);
+            return names;
+        }
+
+        private List<String> names(DirectoryPageResponseDto page) {
+            return page.items().stream()
+                    .map(ResourceResponseDto::name)
+                    .toList();
+        }
+    }
+
     @Nested
     class createDirectoryTests {
 
@@ -0,0 +1,94 @@
+package org.example.cloudstorage;
+
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.exception.BatchOperationException;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.service.MinioClientService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+public class FolderMoveIT extends AbstractIntegrationTest {
+
+    private static final int EXPECTED_DOCS_FILES = 4;
+
+    @MockitoSpyBean
+    private MinioClientService minioClientService;
+
+    @Nested
+    class ParallelCopyTests {
+
+        @Test
+        void shouldCopyObjectsConcurrentlyOnMoveExecutor() {
+            CountDownLatch concurrentCopies = new CountDownLatch(2);
+            Queue<Boolean> overlapped = new ConcurrentLinkedQueue<>();
+            Queue<String> threadNames = new ConcurrentLinkedQueue<>();
+            doAnswer(invocation -> {
+                threadNames.add(Thread.currentThread().getName());
+                concurrentCopies.countDown();
+                overlapped.add(concurrentCopies.await(5, TimeUnit.SECONDS));
+                return invocation.callRealMethod();
+            }).when(minioClientService).copyObject(eq(userId), anyString(), anyString());
+
+            resourceService.upload(userId, "", testFolder);
+            resourceService.move(userId, "docs/", "papers/");
+
+            assertTrue(overlapped.stream().allMatch(Boolean::booleanValue));
+            assertTrue(threadNames.stream().allMatch(name -> name.startsWith("storage-move-")));
+            assertEquals(EXPECTED_DOCS_FILES, countFiles("papers/"));
+            assertFalse(directoryService.isPathExists(userId, "docs/"));
+        }
+    }
+
+    @Nested
+    class FailureTests {
+
+        @Test
+        void shouldRollBackCopiesWhenOneCopyFails() {
+            doThrow(new MinioOperationException("Copy failed"))
+                    .when(minioClientService).copyObject(eq(userId), eq("docs/document2.pdf"), anyString());
+
+            resourceService.upload(userId, "", testFolder);
+
+            BatchOperationException exception = assertThrows(BatchOperationException.class, () -> {
+                resourceService.move(userId, "docs/", "papers/");
+            });
+
+            assertEquals(List.of("docs/document2.pdf"), exception.getFailedPaths());
+            assertFalse(directoryService.isPathExists(userId, "papers/"));
+            assertEquals(EXPECTED_DOCS_FILES, countFiles("docs/"));
+        }
+
+        @Test
+        void shouldSurfaceTypedExceptionWhenFolderCreationFails() {
+            doThrow(new MinioOperationException("Folder creation failed"))
+                    .when(minioClientService).putDirectory(eq(userId), eq("papers/images/"));
+
+            resourceService.upload(userId, "", testFolder);
+
+            assertThrows(MinioOperationException.class, () -> resourceService.move(userId, "docs/", "papers/"));
+            assertFalse(directoryService.isPathExists(userId, "papers/"));
+            assertEquals(EXPECTED_DOCS_FILES, countFiles("docs/"));
+        }
+    }
+
+    private long countFiles(String path) {
+        return directoryService.getDirectory(userId, path, TraversalMode.RECURSIVE).stream()
+                .filter(FileResponseDto.class::isInstance)
+                .count();
+    }
+
+}
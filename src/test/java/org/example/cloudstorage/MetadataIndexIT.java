@@ -0,0 +1,150 @@
+package org.example.cloudstorage;
+
+import org.example.cloudstorage.dto.resourceResponseDto.DirectoryPageResponseDto;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.exception.ResourceNotFoundException;
+import org.example.cloudstorage.model.DirectorySort;
+import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.service.DirectoryPageService;
+import org.example.cloudstorage.service.MetadataIndexInitializer;
+import org.example.cloudstorage.service.ResourceMetadataService;
+import org.example.cloudstorage.service.ResourceStreamService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = "storage.metadata-index.enabled=true")
+public class MetadataIndexIT extends AbstractIntegrationTest {
+
+    private static final int EXPECTED_ROOT_RESOURCES_RECURSIVE = 6;
+    private static final int EXPECTED_DOCS_RESOURCES = 3;
+    private static final int EXPECTED_IMAGES_RESOURCES = 2;
+
+    @Autowired
+    private ResourceMetadataService resourceMetadataService;
+
+    @Autowired
+    private MetadataIndexInitializer metadataIndexInitializer;
+
+    @Autowired
+    private DirectoryPageService directoryPageService;
+
+    @Autowired
+    private ResourceStreamService resourceStreamService;
+
+    @Nested
+    class ListingTests {
+
+        @Test
+        void shouldServeDirectoryListingFromIndex() {
+            resourceService.upload(userId, "", testFolder);
+
+            List<ResourceResponseDto> docs = directoryService.getDirectory(userId, "docs/", TraversalMode.NON_RECURSIVE);
+            List<ResourceResponseDto> root = directoryService.getDirectory(userId, "", TraversalMode.RECURSIVE);
+
+            assertEquals(EXPECTED_DOCS_RESOURCES, docs.size());
+            assertTrue(docs.stream().anyMatch(resource -> resource.name().equals("images/")));
+            assertEquals(EXPECTED_ROOT_RESOURCES_RECURSIVE, root.size());
+        }
+
+        @Test
+        void shouldServeDirectoryPagesFromIndex() {
+            resourceService.upload(userId, "", testFolder);
+
+            DirectoryPageResponseDto firstPage = directoryPageService.getPage(userId, "docs/", 2, null, DirectorySort.TYPE);
+            DirectoryPageResponseDto lastPage = directoryPageService.getPage(userId, "docs/", 2, firstPage.nextCursor(), DirectorySort.TYPE);
+
+            assertEquals(List.of("images/", "document1.txt"),
+                    firstPage.items().stream().map(ResourceResponseDto::name).toList());
+            assertEquals(List.of("document2.pdf"),
+                    lastPage.items().stream().map(ResourceResponseDto::name).toList());
+            assertNull(lastPage.nextCursor());
+        }
+
+        @Test
+        void shouldCheckPathExistenceAgainstIndex() {
+            directoryService.createDirectory(userId, "projects/");
+
+            assertTrue(directoryService.isPathExists(userId, "projects/"));
+            assertFalse(directoryService.isPathExists(userId, "project/"));
+            assertThrows(ResourceNotFoundException.class,
+                    () -> directoryService.getDirectory(userId, "missing/", TraversalMode.NON_RECURSIVE));
+        }
+    }
+
+    @Nested
+    class SearchTests {
+
+        @Test
+        void shouldRankExactAndPrefixMatchesFirst() {
+            resourceService.upload(userId, "", testFolder);
+
+            List<ResourceResponseDto> results = resourceService.search(userId, "document");
+
+            assertEquals(2, results.size());
+            assertEquals("docs/", results.get(0).path());
+            assertTrue(results.get(0).name().startsWith("document"));
+        }
+
+        @Test
+        void shouldTreatLikeWildcardsLiterally() {
+            resourceService.upload(userId, "", testFolder);
+
+            assertTrue(resourceService.search(userId, "%").isEmpty());
+            assertTrue(resourceService.search(userId, "_").isEmpty());
+        }
+
+        @Test
+        void shouldStreamSearchPastTheInteractiveResultLimit() throws Exception {
+            resourceService.upload(userId, "", testFolder);
+
+            ReflectionTestUtils.setField(resourceMetadataService, "maxSearchResults", 1);
+            try {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                resourceStreamService.streamSearch(userId, "document").writeTo(output);
+
+                assertEquals(1, resourceService.search(userId, "document").size());
+                assertEquals(2, output.toString(StandardCharsets.UTF_8).lines().count());
+            } finally {
+                ReflectionTestUtils.setField(resourceMetadataService, "maxSearchResults", 50);
+            }
+        }
+    }
+
+    @Nested
+    class MaintenanceTests {
+
+        @Test
+        void shouldRemoveFolderFromIndexAfterDelete() {
+            resourceService.upload(userId, "", testFolder);
+
+            resourceService.delete(userId, "docs/");
+
+            assertFalse(directoryService.isPathExists(userId, "docs/"));
+            assertTrue(resourceMetadataService.getDescendants(userId, "").isEmpty());
+        }
+
+        @Test
+        void shouldRebuildIndexFromStorage() {
+            resourceService.upload(userId, "", testFolder);
+            resourceMetadataService.replaceAll(userId, List.of());
+
+            assertFalse(directoryService.isPathExists(userId, "docs/"));
+
+            metadataIndexInitializer.rebuild(userId);
+
+            List<ResourceResponseDto> images =
+                    directoryService.getDirectory(userId, "docs/images/", TraversalMode.NON_RECURSIVE);
+            assertEquals(EXPECTED_IMAGES_RESOURCES, images.size());
+        }
+    }
+
+}
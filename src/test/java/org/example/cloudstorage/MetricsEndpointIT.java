@@ -0,0 +1,69 @@
+package org.example.cloudstorage;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource(properties = {
+        "management.endpoints.web.exposure.include=metrics,prometheus",
+        "storage.metrics.scrape-username=scraper",
+        "storage.metrics.scrape-password=scrape-secret"
+})
+public class MetricsEndpointIT extends AbstractIntegrationTest {
+
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
+    private static final String METRICS_PATH = "/actuator/metrics";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldRejectAnonymousScrape() throws Exception {
+        mockMvc.perform(get(PROMETHEUS_PATH))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldRejectWrongScrapeCredentials() throws Exception {
+        mockMvc.perform(get(PROMETHEUS_PATH).with(httpBasic("scraper", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldRejectSignedInUser() throws Exception {
+        mockMvc.perform(get(PROMETHEUS_PATH).with(user("TestUser")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldRejectSignedInUserOnMetricsEndpoint() throws Exception {
+        mockMvc.perform(get(METRICS_PATH).with(user("TestUser")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldServeMetricsEndpointWithScrapeCredentials() throws Exception {
+        mockMvc.perform(get(METRICS_PATH).with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldServeScrapeWithCredentials() throws Exception {
+        mockMvc.perform(get(PROMETHEUS_PATH).with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("storage_minio_bytes_total")));
+    }
+
+}
@@ -0,0 +1,138 @@
+package org.example.cloudstorage;
+
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.service.BlobReferenceService;
+import org.example.cloudstorage.service.MinioClientService;
+import org.example.cloudstorage.service.RequestStorageStats;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "storage.metadata-index.enabled=true",
+        "storage.dedup.enabled=true",
+        "storage.namespace.enabled=true"
+})
+public class NamespaceIT extends AbstractIntegrationTest {
+
+    private static final int EXPECTED_DOCS_RESOURCES = 3;
+    private static final String IMAGE_CONTENT = "Fake image content";
+
+    @Autowired
+    private BlobReferenceService blobReferenceService;
+
+    @Autowired
+    private MinioClientService minioClientService;
+
+    @Nested
+    class MoveTests {
+
+        @Test
+        void shouldMoveFolderWithoutTouchingContent() throws Exception {
+            String imageHash = sha256(IMAGE_CONTENT);
+            resourceService.upload(userId, "", testFolder);
+            long imageReferences = blobReferenceService.getRefCount(imageHash);
+
+            directoryService.createDirectory(userId, "archive/");
+            resourceService.move(userId, "docs/", "archive/docs/");
+
+            List<ResourceResponseDto> docs = directoryService.getDirectory(userId, "archive/docs/", TraversalMode.NON_RECURSIVE);
+            assertEquals(EXPECTED_DOCS_RESOURCES, docs.size());
+            assertFalse(directoryService.isPathExists(userId, "docs/"));
+            assertEquals("Document 1 content", download("archive/docs/document1.txt"));
+            assertEquals(IMAGE_CONTENT, download("archive/docs/images/photo.jpg"));
+            assertEquals(imageReferences, blobReferenceService.getRefCount(imageHash));
+        }
+
+        @Test
+        void shouldResolveMovedPathsInSearch() {
+            resourceService.upload(userId, "", testFolder);
+
+            resourceService.move(userId, "docs/", "papers/");
+
+            List<ResourceResponseDto> results = resourceService.search(userId, "vacation");
+            assertEquals(1, results.size());
+            assertEquals("papers/images/", results.get(0).path());
+        }
+
+        @Test
+        void shouldRenameFileInPlace() throws Exception {
+            resourceService.upload(userId, "", testFolder);
+
+            resourceService.move(userId, "docs/document1.txt", "docs/notes.txt");
+
+            assertEquals("Document 1 content", download("docs/notes.txt"));
+            assertTrue(resourceService.getFileInfo(userId, "docs/notes.txt").size() > 0);
+            assertEquals(EXPECTED_DOCS_RESOURCES,
+                    directoryService.getDirectory(userId, "docs/", TraversalMode.NON_RECURSIVE).size());
+        }
+
+        @Test
+        void shouldNotCountMetadataOnlyTreeOperationsAsStorageCalls() {
+            resourceService.upload(userId, "", testFolder);
+            RequestStorageStats stats = new RequestStorageStats();
+            RequestStorageStats.bind(stats);
+            try {
+                minioClientService.moveTree(userId, "docs/", "papers/");
+                minioClientService.removeTree(userId, "papers/");
+            } finally {
+                RequestStorageStats.clear();
+            }
+
+            assertEquals(0, stats.getCallCount());
+        }
+    }
+
+    @Nested
+    class DeleteTests {
+
+        @Test
+        void shouldReleaseBlobsWhenFolderIsDeleted() throws Exception {
+            String imageHash = sha256(IMAGE_CONTENT);
+            long imageReferences = blobReferenceService.getRefCount(imageHash);
+
+            resourceService.upload(userId, "", testFolder);
+            assertEquals(imageReferences + 2, blobReferenceService.getRefCount(imageHash));
+
+            resourceService.delete(userId, "docs/");
+
+            assertEquals(imageReferences, blobReferenceService.getRefCount(imageHash));
+            assertFalse(directoryService.isPathExists(userId, "docs/"));
+        }
+
+        @Test
+        void shouldNotServeCachedEntriesAfterFolderIsDeleted() {
+            resourceService.upload(userId, "", testFolder);
+            assertEquals(EXPECTED_DOCS_RESOURCES, directoryService.getDirectory(userId, "docs/", TraversalMode.NON_RECURSIVE).size());
+            assertTrue(directoryService.isPathExists(userId, "docs/"));
+
+            resourceService.delete(userId, "docs/");
+
+            List<ResourceResponseDto> root = directoryService.getDirectory(userId, "", TraversalMode.NON_RECURSIVE);
+            assertTrue(root.stream().noneMatch(resource -> resource.name().startsWith("docs")));
+            assertFalse(directoryService.isPathExists(userId, "docs/"));
+        }
+    }
+
+    private String download(String path) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        resourceService.downloadFile(userId, path).writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private String sha256(String content) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,212 @@
+package org.example.cloudstorage;
+
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
+import org.example.cloudstorage.exception.MinioOperationException;
+import org.example.cloudstorage.model.UploadStatus;
+import org.example.cloudstorage.service.MinioClientService;
+import org.example.cloudstorage.service.ParallelUploadService;
+import org.example.cloudstorage.service.StorageUsageService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@TestPropertySource(properties = {
+        "storage.upload.parallelism=" + ParallelUploadIT.REQUEST_PARALLELISM,
+        "storage.upload.max-concurrent-per-user=" + ParallelUploadIT.USER_PARALLELISM
+})
+public class ParallelUploadIT extends AbstractIntegrationTest {
+
+    static final int REQUEST_PARALLELISM = 2;
+    static final int USER_PARALLELISM = 3;
+    private static final int FILES_PER_REQUEST = 8;
+    private static final long UPLOAD_DELAY_MILLIS = 100;
+    private static final Duration UPLOAD_TIMEOUT = Duration.ofSeconds(30);
+
+    @MockitoSpyBean
+    private MinioClientService minioClientService;
+
+    @MockitoSpyBean
+    private StorageUsageService storageUsageService;
+
+    @Autowired
+    private ParallelUploadService parallelUploadService;
+
+    private final AtomicInteger activeUploads = new AtomicInteger();
+    private final AtomicInteger peakUploads = new AtomicInteger();
+
+    @Nested
+    class ConcurrencyLimitTests {
+
+        @Test
+        void shouldNotExceedRequestParallelism() {
+            trackConcurrentUploads();
+
+            parallelUploadService.upload(userId, "", List.of(), createFiles("single-"));
+
+            assertEquals(REQUEST_PARALLELISM, peakUploads.get());
+            assertTrue(minioClientService.statObject(userId, "single-" + (FILES_PER_REQUEST - 1) + ".txt").isPresent());
+        }
+
+        @Test
+        void shouldNotExceedUserParallelismAcrossRequests() throws Exception {
+            trackConcurrentUploads();
+            doNothing().when(storageUsageService).recordUpload(eq(userId), anyLong(), anyLong());
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService requests = Executors.newFixedThreadPool(2);
+
+            try {
+                Future<?> first = requests.submit(() -> {
+                    start.await();
+                    return parallelUploadService.upload(userId, "", List.of(), createFiles("first-"));
+                });
+                Future<?> second = requests.submit(() -> {
+                    start.await();
+                    return parallelUploadService.upload(userId, "", List.of(), createFiles("second-"));
+                });
+                start.countDown();
+
+                first.get(UPLOAD_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+                second.get(UPLOAD_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            } finally {
+                requests.shutdownNow();
+            }
+
+            assertEquals(USER_PARALLELISM, peakUploads.get());
+            assertTrue(userPermits().isEmpty());
+        }
+    }
+
+    @Nested
+    class PartialFailureTests {
+
+        @Test
+        void shouldReportFailedFilesAndRecordOnlyUploadedOnes() {
+            Set<String> failedNames = Set.of("partial-3.txt", "partial-5.txt");
+            doThrow(new MinioOperationException("Upload failed"))
+                    .when(minioClientService).putFile(eq(userId), anyString(),
+                            argThat(file -> file != null && failedNames.contains(file.getOriginalFilename())));
+            MultipartFile[] files = createFiles("partial-");
+
+            List<ResourceResponseDto> results = parallelUploadService.upload(userId, "", List.of(), files);
+
+            assertEquals(FILES_PER_REQUEST, results.size());
+            assertEquals(failedNames, namesWithStatus(results, UploadStatus.FAILED));
+            assertEquals(FILES_PER_REQUEST - failedNames.size(), namesWithStatus(results, UploadStatus.UPLOADED).size());
+            long uploadedBytes = files[0].getSize() * (FILES_PER_REQUEST - failedNames.size());
+            verify(storageUsageService).recordUpload(userId, uploadedBytes, FILES_PER_REQUEST - failedNames.size());
+            assertTrue(minioClientService.statObject(userId, "partial-0.txt").isPresent());
+            assertTrue(minioClientService.statObject(userId, "partial-3.txt").isEmpty());
+        }
+
+        @Test
+        void shouldSkipOnlyFilesUnderFailedFolder() {
+            doThrow(new MinioOperationException("Folder creation failed"))
+                    .when(minioClientService).putDirectory(eq(userId), eq("batch/b/"));
+            MultipartFile[] files = {
+                    new MockMultipartFile("files", "batch/a/kept.txt", "text/plain", "Parallel content".getBytes()),
+                    new MockMultipartFile("files", "batch/b/skipped.txt", "text/plain", "Parallel content".getBytes())
+            };
+
+            List<ResourceResponseDto> results =
+                    parallelUploadService.upload(userId, "", List.of("batch/", "batch/a/", "batch/b/"), files);
+
+            assertEquals(Set.of("batch/a/kept.txt"), namesWithStatus(results, UploadStatus.UPLOADED));
+            assertEquals(Set.of("batch/b/skipped.txt"), namesWithStatus(results, UploadStatus.FAILED));
+            verify(minioClientService, never()).putFile(eq(userId), anyString(),
+                    argThat(file -> file != null && "batch/b/skipped.txt".equals(file.getOriginalFilename())));
+        }
+    }
+
+    @Nested
+    class PermitReleaseTests {
+
+        @Test
+        void shouldReleasePermitsWhenEveryUploadFails() {
+            doThrow(new MinioOperationException("Upload failed"))
+                    .when(minioClientService).putFile(eq(userId), anyString(), any(MultipartFile.class));
+
+            List<ResourceResponseDto> results = assertTimeoutPreemptively(UPLOAD_TIMEOUT, () ->
+                    parallelUploadService.upload(userId, "", List.of(), createFiles("failed-")));
+
+            assertEquals(FILES_PER_REQUEST, namesWithStatus(results, UploadStatus.FAILED).size());
+            assertTrue(userPermits().isEmpty());
+        }
+
+        @Test
+        void shouldReleasePermitsAndSurfaceUnexpectedErrors() {
+            doThrow(new IllegalStateException("Unexpected failure"))
+                    .when(minioClientService).putFile(eq(userId), anyString(), any(MultipartFile.class));
+
+            IllegalStateException exception = assertTimeoutPreemptively(UPLOAD_TIMEOUT, () ->
+                    assertThrows(IllegalStateException.class, () -> {
+                        parallelUploadService.upload(userId, "", List.of(), createFiles("broken-"));
+                    }));
+
+            assertEquals("Unexpected failure", exception.getMessage());
+            assertTrue(userPermits().isEmpty());
+        }
+    }
+
+    private Set<String> namesWithStatus(List<ResourceResponseDto> results, UploadStatus status) {
+        return results.stream()
+                .map(FileResponseDto.class::cast)
+                .filter(result -> result.status() == status)
+                .map(FileResponseDto::name)
+                .collect(Collectors.toSet());
+    }
+
+    private void trackConcurrentUploads() {
+        doAnswer(invocation -> {
+            peakUploads.accumulateAndGet(activeUploads.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(UPLOAD_DELAY_MILLIS);
+                return invocation.callRealMethod();
+            } finally {
+                activeUploads.decrementAndGet();
+            }
+        }).when(minioClientService).putFile(eq(userId), anyString(), any(MultipartFile.class));
+    }
+
+    private MultipartFile[] createFiles(String prefix) {
+        MultipartFile[] files = new MultipartFile[FILES_PER_REQUEST];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = new MockMultipartFile("files", prefix + i + ".txt", "text/plain", "Parallel content".getBytes());
+        }
+        return files;
+    }
+
+    private Map<?, ?> userPermits() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(parallelUploadService, "userPermits");
+    }
+
+}
@@ -0,0 +1,153 @@
+package org.example.cloudstorage;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+public class ResourceDownloadIT extends AbstractIntegrationTest {
+
+    private static final String DOWNLOAD_PATH = "/api/resource/download";
+    private static final String FILE_PATH = "test-file-1.txt";
+    private static final String FILE_CONTENT = "Hello World 1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String entityTag;
+
+    @BeforeEach
+    void uploadFile() {
+        resourceService.upload(userId, "", testFile);
+        entityTag = "\"" + resourceService.getCurrentFileInfo(userId, FILE_PATH).etag() + "\"";
+    }
+
+    @Nested
+    class FullDownloadTests {
+
+        @Test
+        void shouldServeWholeFileWithValidators() throws Exception {
+            MvcResult result = mockMvc.perform(download())
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, entityTag))
+                    .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                    .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, FILE_CONTENT.length()))
+                    .andExpect(content().string(FILE_CONTENT));
+        }
+
+        @Test
+        void shouldReturnNotModifiedWhenEntityTagMatches() throws Exception {
+            mockMvc.perform(download().header(HttpHeaders.IF_NONE_MATCH, entityTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, entityTag))
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    class RangeTests {
+
+        @Test
+        void shouldServeRequestedRange() throws Exception {
+            MvcResult result = mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=6-10"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isPartialContent())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 6-10/" + FILE_CONTENT.length()))
+                    .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 5))
+                    .andExpect(header().string(HttpHeaders.ETAG, entityTag))
+                    .andExpect(content().string("World"));
+        }
+
+        @Test
+        void shouldRejectRangeOutsideOfFile() throws Exception {
+            mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=100-200"))
+                    .andExpect(status().isRequestedRangeNotSatisfiable())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + FILE_CONTENT.length()));
+        }
+
+        @Test
+        void shouldServeRangeWhenIfRangeMatches() throws Exception {
+            MvcResult result = mockMvc.perform(download()
+                            .header(HttpHeaders.RANGE, "bytes=0-4")
+                            .header(HttpHeaders.IF_RANGE, entityTag))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isPartialContent())
+                    .andExpect(content().string("Hello"));
+        }
+
+        @Test
+        void shouldServeWholeFileWhenIfRangeIsStale() throws Exception {
+            MvcResult result = mockMvc.perform(download()
+                            .header(HttpHeaders.RANGE, "bytes=0-4")
+                            .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                    .andExpect(content().string(FILE_CONTENT));
+        }
+    }
+
+    @Nested
+    class StorageStatsTests {
+
+        @Test
+        void shouldReportStreamedDownloadWhenAsyncRequestCompletes() throws Exception {
+            DistributionSummary bytesPerRequest = meterRegistry.get("storage.request.bytes").summary();
+            long requestsBefore = bytesPerRequest.count();
+            double bytesBefore = bytesPerRequest.totalAmount();
+
+            MvcResult result = mockMvc.perform(download())
+                    .andExpect(request().asyncStarted())
+                    .andExpect(header().string("Server-Timing", containsString("storage.getObject;desc=\"1\"")))
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(FILE_CONTENT));
+
+            assertEquals(requestsBefore + 1, bytesPerRequest.count());
+            assertEquals(bytesBefore + FILE_CONTENT.length(), bytesPerRequest.totalAmount());
+        }
+    }
+
+    private MockHttpServletRequestBuilder download() {
+        return get(DOWNLOAD_PATH)
+                .param("path", FILE_PATH)
+                .with(user("TestUser"));
+    }
+
+}
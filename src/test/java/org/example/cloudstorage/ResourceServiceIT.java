@@ -1,19 +1,62 @@
 package org.example.cloudstorage;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.minio.Result;
+import io.minio.StatObjectResponse;
+import io.minio.messages.Item;
+import org.example.cloudstorage.config.StorageStatsFilter;
 import org.example.cloudstorage.dto.resourceResponseDto.ResourceResponseDto;
 import org.example.cloudstorage.dto.userDto.UserRegistrationRequestDto;
 import org.example.cloudstorage.exception.InvalidPathException;
+import org.example.cloudstorage.exception.QuotaExceededException;
 import org.example.cloudstorage.exception.ResourceExistsException;
 import org.example.cloudstorage.exception.ResourceNotFoundException;
+import org.example.cloudstorage.model.StorageUsage;
 import org.example.cloudstorage.model.TraversalMode;
+import org.example.cloudstorage.model.ZipCompressionProfile;
+import org.example.cloudstorage.service.AncestorFolderResolver;
+import org.example.cloudstorage.service.MinioClientService;
+import org.example.cloudstorage.service.RequestStorageStats;
+import org.example.cloudstorage.service.ResourceStreamService;
+import org.example.cloudstorage.service.StorageUsageReconciler;
+import org.example.cloudstorage.service.StorageUsageService;
+import org.example.cloudstorage.service.StreamingUploadService;
+import org.example.cloudstorage.service.ZipArchiveService;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +68,36 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
     private static final int EXPECTED_FILES_AFTER_MOVING = 3;
     private static final int EXPECTED_QUERY_RESULTS = 2;
     private static final int EXPECTED_QUERY_RESULTS_FOR_SECOND_USER = 3;
+    private static final String MULTIPART_BOUNDARY = "test-boundary";
+    private static final long STREAM_SIZE_LIMIT = 8192;
+    private static final int PARALLEL_UPLOAD_FILES = 40;
+
+    @Autowired
+    private StreamingUploadService streamingUploadService;
+
+    @Autowired
+    private MinioClientService minioClientService;
+
+    @Autowired
+    private AncestorFolderResolver ancestorFolderResolver;
+
+    @Autowired
+    private StorageUsageService storageUsageService;
+
+    @Autowired
+    private ResourceStreamService resourceStreamService;
+
+    @Autowired
+    private StorageUsageReconciler storageUsageReconciler;
+
+    @Autowired
+    private ZipArchiveService zipArchiveService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StorageStatsFilter storageStatsFilter;
 
     @Nested
     class UploadTests {
@@ -59,6 +132,22 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
 
         }
 
+        @Test
+        void shouldFindFileUploadedAfterMissedLookup() {
+            String path = "";
+            String expectedFileName = "test-file-1.txt";
+            String resourcePath = path + expectedFileName;
+
+            assertThrows(ResourceNotFoundException.class, () -> {
+                resourceService.getResourceInfo(userId, resourcePath);
+            });
+
+            resourceService.upload(userId, path, testFile);
+            ResourceResponseDto resourceInfo = resourceService.getResourceInfo(userId, resourcePath);
+
+            assertEquals(expectedFileName, resourceInfo.name());
+        }
+
         @Test
         void shouldThrowInvalidPathExceptionAfterUpload() {
             String correctPath = "";
@@ -130,6 +219,39 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
 
         }
 
+        @Test
+        void shouldUploadManyFilesConcurrently() {
+            MultipartFile[] files = new MultipartFile[PARALLEL_UPLOAD_FILES];
+            for (int i = 0; i < files.length; i++) {
+                files[i] = new MockMultipartFile(
+                        "files", "batch/part-" + i % 4 + "/file-" + i + ".txt", "text/plain", ("File " + i).getBytes());
+            }
+
+            List<ResourceResponseDto> uploadedFiles = resourceService.upload(userId, "", files);
+            List<ResourceResponseDto> storedResources =
+                    directoryService.getDirectory(userId, "batch/", TraversalMode.RECURSIVE);
+
+            assertEquals(PARALLEL_UPLOAD_FILES, uploadedFiles.size());
+            assertEquals("batch/part-0/file-0.txt", uploadedFiles.get(0).name());
+            assertEquals(PARALLEL_UPLOAD_FILES + 4, storedResources.size());
+        }
+
+        @Test
+        void shouldResolveOnlyMissingAncestorFolders() {
+            resourceService.upload(userId, "", testFolder);
+
+            Set<String> missingFolders = ancestorFolderResolver.findMissingFolders(userId, List.of(
+                    "docs/document3.txt",
+                    "docs/images/2024/beach.jpg",
+                    "docs/notes/drafts/todo.txt",
+                    "docs/notes/ideas.txt",
+                    "music/rock/song.mp3"
+            ));
+
+            assertEquals(Set.of("docs/images/2024/", "docs/notes/", "docs/notes/drafts/", "music/", "music/rock/"),
+                    missingFolders);
+        }
+
         @Test
         void shouldPreventUserFromReadingOtherUsersResources() {
             String uploadedPath = "";
@@ -150,6 +272,84 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
 
     }
 
+    @Nested
+    class StreamingUploadTests {
+
+        @Test
+        void shouldStreamFolderToMinioBucket() {
+            String path = "";
+            String expectedFilePath = "notes/deep/today.txt";
+            MockHttpServletRequest request = createMultipartRequest(expectedFilePath, "Streamed content");
+
+            List<ResourceResponseDto> uploadedResources = streamingUploadService.upload(userId, path, request);
+            ResourceResponseDto resourceInfo = resourceService.getResourceInfo(userId, expectedFilePath);
+
+            assertEquals(1, uploadedResources.size());
+            assertEquals("today.txt", resourceInfo.name());
+            assertEquals("notes/deep/", resourceInfo.path());
+            assertNotNull(directoryService.getDirectory(userId, "notes/deep/", TraversalMode.NON_RECURSIVE));
+        }
+
+        @Test
+        void shouldThrowResourceExistsExceptionWhenStreamExistingFile() {
+            String path = "";
+            resourceService.upload(userId, path, testFile);
+            MockHttpServletRequest request = createMultipartRequest("test-file-1.txt", "Hello World 1");
+
+            ResourceExistsException exception = assertThrows(ResourceExistsException.class, () -> {
+                streamingUploadService.upload(userId, path, request);
+            });
+
+            assertEquals("File with this name already exists", exception.getMessage());
+        }
+
+        @Test
+        void shouldRejectStreamWhenDeclaredLengthExceedsLimit() {
+            MockHttpServletRequest request = createMultipartRequest("large.txt", "a".repeat(64 * 1024));
+
+            MaxUploadSizeExceededException exception = uploadWithSizeLimit(request);
+
+            assertEquals(STREAM_SIZE_LIMIT, exception.getMaxUploadSize());
+            assertTrue(minioClientService.statObject(userId, "large.txt").isEmpty());
+        }
+
+        @Test
+        void shouldRejectStreamWhenLimitIsExceededWhileStoring() {
+            MockHttpServletRequest request = createMultipartRequest("large.txt", "a".repeat(64 * 1024));
+            MockHttpServletRequest chunkedRequest = new MockHttpServletRequest("POST", "/api/resource/stream") {
+                @Override
+                public int getContentLength() {
+                    return -1;
+                }
+
+                @Override
+                public long getContentLengthLong() {
+                    return -1;
+                }
+            };
+            chunkedRequest.setContentType(request.getContentType());
+            chunkedRequest.setContent(request.getContentAsByteArray());
+
+            MaxUploadSizeExceededException exception = uploadWithSizeLimit(chunkedRequest);
+
+            assertEquals(STREAM_SIZE_LIMIT, exception.getMaxUploadSize());
+            assertTrue(minioClientService.statObject(userId, "large.txt").isEmpty());
+        }
+
+        private MaxUploadSizeExceededException uploadWithSizeLimit(MockHttpServletRequest request) {
+            Object maxRequestSize = ReflectionTestUtils.getField(streamingUploadService, "maxRequestSize");
+            ReflectionTestUtils.setField(streamingUploadService, "maxRequestSize", STREAM_SIZE_LIMIT);
+            try {
+                return assertThrows(MaxUploadSizeExceededException.class, () -> {
+                    streamingUploadService.upload(userId, "", request);
+                });
+            } finally {
+                ReflectionTestUtils.setField(streamingUploadService, "maxRequestSize", maxRequestSize);
+            }
+        }
+
+    }
+
     @Nested
     class DeleteTests {
 
@@ -190,6 +390,18 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
 
         }
 
+        @Test
+        void shouldDeleteNestedFolderWithAllObjects() {
+            String uploadedPath = "";
+            String pathForDelete = "docs/";
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+            resourceService.delete(userId, pathForDelete);
+
+            List<ResourceResponseDto> rootAfterDelete = directoryService.getDirectory(userId, uploadedPath, TraversalMode.RECURSIVE);
+            assertTrue(rootAfterDelete.isEmpty());
+        }
+
         @Test
         void shouldThrowInvalidPathExceptionWhenDeleteResource() {
             String path = "";
@@ -285,6 +497,79 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
             assertTrue(response.getContentAsByteArray().length > 0);
         }
 
+        @Test
+        void shouldPutEveryFileOfFolderIntoZipArchive() throws Exception {
+            String uploadedPath = "";
+            String folderPath = "docs/";
+            resourceService.upload(userId, uploadedPath, testFolder);
+
+            StreamingResponseBody responseBody = resourceService.download(userId, folderPath);
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            responseBody.writeTo(response.getOutputStream());
+
+            Map<String, String> entries = new HashMap<>();
+            try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+
+            assertEquals(4, entries.size());
+            assertEquals("Document 1 content", entries.get("docs/document1.txt"));
+            assertEquals("Fake image content", entries.get("docs/images/vacation.jpg"));
+        }
+
+        @Test
+        void shouldReturnSharedBufferBudgetAfterConcurrentZipDownloads() throws Exception {
+            resourceService.upload(userId, "", testFolder);
+            Semaphore bufferBudget = (Semaphore) ReflectionTestUtils.getField(zipArchiveService, "bufferBudget");
+            int availableBefore = bufferBudget.availablePermits();
+
+            List<CompletableFuture<byte[]>> downloads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                StreamingResponseBody responseBody = resourceService.download(userId, "docs/");
+                downloads.add(CompletableFuture.supplyAsync(() -> {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    try {
+                        responseBody.writeTo(response.getOutputStream());
+                    } catch (IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                    return response.getContentAsByteArray();
+                }));
+            }
+
+            for (CompletableFuture<byte[]> download : downloads) {
+                assertTrue(download.get(30, TimeUnit.SECONDS).length > 0);
+            }
+            assertEquals(availableBefore, bufferBudget.availablePermits());
+        }
+
+        @Test
+        void shouldStoreIncompressibleEntriesWithoutDeflating() throws Exception {
+            String uploadedPath = "";
+            String folderPath = "docs/";
+            resourceService.upload(userId, uploadedPath, testFolder);
+
+            StreamingResponseBody responseBody = resourceService.download(userId, folderPath, ZipCompressionProfile.FAST);
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            responseBody.writeTo(response.getOutputStream());
+
+            Map<String, Integer> methods = new HashMap<>();
+            try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    methods.put(entry.getName(), entry.getMethod());
+                }
+            }
+
+            assertEquals(ZipEntry.STORED, methods.get("docs/images/photo.jpg"));
+            assertEquals(ZipEntry.DEFLATED, methods.get("docs/document1.txt"));
+        }
+
         @Test
         void shouldThrowResourceNotFoundExceptionWhenDownloadFolder() {
             String uploadedPath = "";
@@ -315,6 +600,57 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
 
             assertEquals("File with this name not found", exception.getMessage());
         }
+
+        @Test
+        void shouldDownloadRequestedRangeOfFile() throws Exception {
+            String path = "";
+            String filePath = path + "test-file-1.txt";
+            String expectedContent = "World";
+
+            resourceService.upload(userId, path, testFile);
+            StatObjectResponse file = resourceService.getFileInfo(userId, filePath);
+            StreamingResponseBody responseBody = resourceService.downloadFileRange(userId, filePath, file, 6, 5);
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            responseBody.writeTo(response.getOutputStream());
+
+            assertEquals(13, file.size());
+            assertNotNull(file.etag());
+            assertEquals(expectedContent, response.getContentAsString());
+        }
+
+        @Test
+        void shouldDownloadFileThroughPresignedUrl() throws Exception {
+            String path = "";
+            String filePath = path + "test-file-1.txt";
+            String contentDisposition = "attachment; filename*=utf-8''test-file-1.txt";
+            String expectedContent = "Hello World 1";
+
+            resourceService.upload(userId, path, testFile);
+            URI downloadUrl = resourceService.getDownloadUrl(userId, filePath, contentDisposition);
+
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(downloadUrl).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+
+            assertEquals(200, response.statusCode());
+            assertEquals(expectedContent, response.body());
+            assertEquals(contentDisposition, response.headers().firstValue("Content-Disposition").orElse(null));
+        }
+
+        @Test
+        void shouldThrowResourceNotFoundExceptionWhenPresignMissingFile() {
+            String path = "";
+            resourceService.upload(userId, path, testFile);
+
+            ResourceNotFoundException exception = assertThrows(
+                    ResourceNotFoundException.class,
+                    () -> resourceService.getDownloadUrl(userId, "fakeFile.txt", "attachment")
+            );
+
+            assertEquals("File with this name not found", exception.getMessage());
+        }
     }
 
     @Nested
@@ -531,6 +867,269 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
 
     }
 
+    @Nested
+    class StorageUsageTests {
+
+        @Test
+        void shouldTrackUsageOnUploadAndDelete() {
+            String uploadedPath = "";
+            String pathForDelete = "docs/images/";
+            long folderBytes = totalSize(testFolder);
+            long imagesBytes = testFolder[2].getSize() + testFolder[3].getSize();
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+
+            StorageUsage afterUpload = storageUsageService.getUsage(userId);
+            assertEquals(folderBytes, afterUpload.getUsedBytes());
+            assertEquals(testFolder.length, afterUpload.getFileCount());
+
+            resourceService.delete(userId, pathForDelete);
+
+            StorageUsage afterDelete = storageUsageService.getUsage(userId);
+            assertEquals(folderBytes - imagesBytes, afterDelete.getUsedBytes());
+            assertEquals(testFolder.length - 2, afterDelete.getFileCount());
+        }
+
+        @Test
+        void shouldKeepUsageUnchangedAfterMove() {
+            String uploadedPath = "";
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+            resourceService.move(userId, "docs/document1.txt", "docs/images/document1.txt");
+
+            StorageUsage usage = storageUsageService.getUsage(userId);
+            assertEquals(totalSize(testFolder), usage.getUsedBytes());
+            assertEquals(testFolder.length, usage.getFileCount());
+        }
+
+        @Test
+        void shouldReconcileUsageWithStoredObjects() {
+            String uploadedPath = "";
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+            storageUsageService.recordDelete(userId, totalSize(testFolder), testFolder.length);
+
+            storageUsageReconciler.reconcile(userId);
+
+            StorageUsage usage = storageUsageService.getUsage(userId);
+            assertEquals(totalSize(testFolder), usage.getUsedBytes());
+            assertEquals(testFolder.length, usage.getFileCount());
+        }
+
+        @Test
+        void shouldWaitForInFlightChangesBeforeReconciling() throws Exception {
+            resourceService.upload(userId, "", testFolder);
+
+            Lock usageLock = storageUsageService.lockForChange(userId);
+            CompletableFuture<Void> reconcile;
+            try {
+                reconcile = CompletableFuture.runAsync(() -> storageUsageReconciler.reconcile(userId));
+                assertThrows(TimeoutException.class, () -> reconcile.get(200, TimeUnit.MILLISECONDS));
+            } finally {
+                usageLock.unlock();
+            }
+            reconcile.get(10, TimeUnit.SECONDS);
+
+            StorageUsage usage = storageUsageService.getUsage(userId);
+            assertEquals(totalSize(testFolder), usage.getUsedBytes());
+            assertEquals(testFolder.length, usage.getFileCount());
+        }
+
+        @Test
+        void shouldKeepReservationsAcrossReconcile() {
+            long quotaBytes = totalSize(testFolder) * 2;
+
+            ReflectionTestUtils.setField(storageUsageService, "quotaBytes", quotaBytes);
+            try {
+                resourceService.upload(userId, "", testFolder);
+                long reservedBytes = storageUsageService.reserve(userId, totalSize(testFolder));
+
+                storageUsageReconciler.reconcile(userId);
+                assertThrows(QuotaExceededException.class, () -> storageUsageService.reserve(userId, 1));
+
+                storageUsageService.release(userId, reservedBytes);
+
+                StorageUsage usage = storageUsageService.getUsage(userId);
+                assertEquals(totalSize(testFolder), usage.getUsedBytes());
+                assertEquals(0, usage.getReservedBytes());
+            } finally {
+                ReflectionTestUtils.setField(storageUsageService, "quotaBytes", 0L);
+            }
+        }
+
+        @Test
+        void shouldRejectUploadOverQuota() {
+            String uploadedPath = "";
+            long quotaBytes = totalSize(testFolder) - 1;
+
+            ReflectionTestUtils.setField(storageUsageService, "quotaBytes", quotaBytes);
+            try {
+                assertThrows(QuotaExceededException.class, () -> {
+                    resourceService.upload(userId, uploadedPath, testFolder);
+                });
+                assertFalse(directoryService.isPathExists(userId, "docs/"));
+                assertEquals(0, storageUsageService.getUsage(userId).getUsedBytes());
+            } finally {
+                ReflectionTestUtils.setField(storageUsageService, "quotaBytes", 0L);
+            }
+        }
+
+        @Test
+        void shouldReserveQuotaAtomically() {
+            long quotaBytes = totalSize(testFolder);
+
+            ReflectionTestUtils.setField(storageUsageService, "quotaBytes", quotaBytes);
+            try {
+                long reservedBytes = storageUsageService.reserve(userId, quotaBytes);
+                assertThrows(QuotaExceededException.class, () -> storageUsageService.reserve(userId, 1));
+
+                storageUsageService.release(userId, reservedBytes);
+
+                resourceService.upload(userId, "", testFolder);
+                assertEquals(quotaBytes, storageUsageService.getUsage(userId).getUsedBytes());
+            } finally {
+                ReflectionTestUtils.setField(storageUsageService, "quotaBytes", 0L);
+            }
+        }
+
+    }
+
+    @Nested
+    class StreamingResultTests {
+
+        @Test
+        void shouldStreamSearchResultsAsNdjson() throws Exception {
+            String uploadedPath = "";
+            String query = "document";
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            resourceStreamService.streamSearch(userId, query).writeTo(output);
+            List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+
+            assertEquals(EXPECTED_QUERY_RESULTS, lines.size());
+            assertTrue(lines.stream().allMatch(line -> line.startsWith("{") && line.contains("document")));
+        }
+
+        @Test
+        void shouldStreamRecursiveDirectoryUpToResultCap() throws Exception {
+            String uploadedPath = "";
+            int resultCap = 3;
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+
+            ReflectionTestUtils.setField(resourceStreamService, "maxResults", resultCap);
+            try {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                resourceStreamService.streamDirectory(userId, "docs/", TraversalMode.RECURSIVE).writeTo(output);
+
+                assertEquals(resultCap, output.toString(StandardCharsets.UTF_8).lines().count());
+            } finally {
+                ReflectionTestUtils.setField(resourceStreamService, "maxResults", 100000);
+            }
+        }
+
+        @Test
+        void shouldStopStreamingWhenClientDisconnects() throws Exception {
+            String uploadedPath = "";
+            ByteArrayOutputStream received = new ByteArrayOutputStream();
+            OutputStream disconnectingOutput = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    if (received.size() > 0 && b == '{') {
+                        throw new IOException("Broken pipe");
+                    }
+                    received.write(b);
+                }
+            };
+
+            resourceService.upload(userId, uploadedPath, testFolder);
+
+            assertDoesNotThrow(() -> resourceStreamService.streamDirectory(userId, "", TraversalMode.RECURSIVE)
+                    .writeTo(disconnectingOutput));
+            assertEquals(1, received.toString(StandardCharsets.UTF_8).lines().count());
+        }
+
+    }
+
+    @Nested
+    class StorageMetricsTests {
+
+        @Test
+        void shouldTimeStorageOperationsByOutcome() {
+            long uploadsBefore = operationCount("putFile", "success");
+
+            resourceService.upload(userId, "", testFile);
+
+            assertEquals(uploadsBefore + 1, operationCount("putFile", "success"));
+            assertTrue(operationCount("statObject", "success") > 0);
+        }
+
+        @Test
+        void shouldCountDownloadedBytesAndReleaseActiveDownloads() throws Exception {
+            long fileSize = testFile[0].getSize();
+            resourceService.upload(userId, "", testFile);
+            double downloadedBefore = meterRegistry.get("storage.minio.bytes").tag("direction", "download").counter().count();
+
+            resourceService.downloadFile(userId, "test-file-1.txt").writeTo(new ByteArrayOutputStream());
+
+            assertEquals(downloadedBefore + fileSize,
+                    meterRegistry.get("storage.minio.bytes").tag("direction", "download").counter().count());
+            assertEquals(0, meterRegistry.get("storage.minio.downloads.active").gauge().value());
+        }
+
+        @Test
+        void shouldReportStorageCallsPerRequestInServerTiming() throws Exception {
+            resourceService.upload(userId, "", testFolder);
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/resource/move");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            storageStatsFilter.doFilter(request, response,
+                    (filteredRequest, filteredResponse) -> resourceService.move(userId, "docs/", "moved/"));
+
+            String serverTiming = response.getHeader("Server-Timing");
+            assertNotNull(serverTiming);
+            assertTrue(serverTiming.startsWith("storage;dur="));
+            assertTrue(serverTiming.contains("storage.listObjects;desc="));
+            assertTrue(serverTiming.contains("storage.copyObject;desc="));
+        }
+
+        @Test
+        void shouldNotTimeStatCacheHits() {
+            resourceService.upload(userId, "", testFile);
+            resourceService.getFileInfo(userId, "test-file-1.txt");
+            long statsBefore = operationCount("statObject", "success");
+
+            resourceService.getFileInfo(userId, "test-file-1.txt");
+
+            assertEquals(statsBefore, operationCount("statObject", "success"));
+        }
+
+        @Test
+        void shouldCountListingStoppedEarly() {
+            resourceService.upload(userId, "", testFolder);
+            RequestStorageStats stats = new RequestStorageStats();
+            RequestStorageStats.bind(stats);
+            try {
+                Iterator<Result<Item>> listing = minioClientService.getListObjects(userId, "", TraversalMode.RECURSIVE).iterator();
+                assertTrue(listing.hasNext());
+                listing.next();
+            } finally {
+                RequestStorageStats.clear();
+            }
+
+            assertEquals(Map.of("listObjects", 1L), stats.getCallsByOperation());
+        }
+
+        private long operationCount(String operation, String outcome) {
+            Timer timer = meterRegistry.find("storage.minio.operations")
+                    .tags("operation", operation, "outcome", outcome)
+                    .timer();
+            return timer == null ? 0 : timer.count();
+        }
+    }
+
     @Nested
     class SearchTests {
 
@@ -564,6 +1163,14 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
 
     }
 
+    private long totalSize(MultipartFile[] files) {
+        long size = 0;
+        for (MultipartFile file : files) {
+            size += file.getSize();
+        }
+        return size;
+    }
+
     private Long createSecondTestUserAndGetId() {
         UserRegistrationRequestDto user = new UserRegistrationRequestDto(
                 "TestUser2",
@@ -573,6 +1180,19 @@ public class ResourceServiceIT extends AbstractIntegrationTest {
         return userRepository.findIdByUsername(user.getUsername());
     }
 
+    private MockHttpServletRequest createMultipartRequest(String fileName, String content) {
+        String body = "--" + MULTIPART_BOUNDARY + "\r\n" +
+                "Content-Disposition: form-data; name=\"object\"; filename=\"" + fileName + "\"\r\n" +
+                "Content-Type: text/plain\r\n\r\n" +
+                content + "\r\n" +
+                "--" + MULTIPART_BOUNDARY + "--\r\n";
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/resource/stream");
+        request.setContentType("multipart/form-data; boundary=" + MULTIPART_BOUNDARY);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
     private MultipartFile[] createExistedFolder() {
         return new MultipartFile[]{
                 new MockMultipartFile(
@@ -0,0 +1,397 @@
+package org.example.cloudstorage;
+
+import io.minio.messages.Upload;
+import org.example.cloudstorage.dto.resourceResponseDto.FileResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadPartResponseDto;
+import org.example.cloudstorage.dto.uploadSessionDto.UploadSessionResponseDto;
+import org.example.cloudstorage.dto.userDto.UserRegistrationRequestDto;
+import org.example.cloudstorage.exception.QuotaExceededException;
+import org.example.cloudstorage.exception.ResourceExistsException;
+import org.example.cloudstorage.exception.ResourceNotFoundException;
+import org.example.cloudstorage.exception.UploadSessionException;
+import org.example.cloudstorage.service.MinioClientService;
+import org.example.cloudstorage.service.StorageUsageService;
+import org.example.cloudstorage.service.UploadSessionService;
+import org.example.cloudstorage.service.UploadSessionSweeper;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UploadSessionIT extends AbstractIntegrationTest {
+
+    private static final String CONTENT_TYPE = "text/plain";
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final String FIRST_PART = "F".repeat(MIN_PART_SIZE);
+    private static final String SECOND_PART = "Second part";
+    private static final long SESSION_SIZE = FIRST_PART.length() + SECOND_PART.length();
+    private static final long DEFAULT_MAX_PART_SIZE = 67108864L;
+
+    @Autowired
+    private UploadSessionService uploadSessionService;
+
+    @Autowired
+    private UploadSessionSweeper uploadSessionSweeper;
+
+    @Autowired
+    private MinioClientService minioClientService;
+
+    @Autowired
+    private StorageUsageService storageUsageService;
+
+    @Nested
+    class CreateTests {
+
+        @Test
+        void shouldCreateSessionWithoutParts() {
+            UploadSessionResponseDto session = uploadSessionService.create(userId, "", "notes.txt", CONTENT_TYPE, SESSION_SIZE);
+
+            assertNotNull(session.sessionId());
+            assertEquals("notes.txt", session.name());
+            assertTrue(uploadSessionService.getUploadedParts(userId, session.sessionId()).parts().isEmpty());
+        }
+
+        @Test
+        void shouldThrowResourceNotFoundExceptionWhenParentPathIsMissing() {
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+                uploadSessionService.create(userId, "missing/", "notes.txt", CONTENT_TYPE, SESSION_SIZE);
+            });
+
+            assertEquals("Parent path not found.", exception.getMessage());
+        }
+
+        @Test
+        void shouldThrowResourceExistsExceptionWhenFileExists() {
+            resourceService.upload(userId, "", testFile);
+
+            assertThrows(ResourceExistsException.class, () -> {
+                uploadSessionService.create(userId, "", "test-file-1.txt", CONTENT_TYPE, SESSION_SIZE);
+            });
+        }
+    }
+
+    @Nested
+    class PartTests {
+
+        @Test
+        void shouldListUploadedParts() {
+            String sessionId = createSession("notes.txt");
+
+            UploadPartResponseDto first = uploadPart(sessionId, 1, FIRST_PART);
+            uploadPart(sessionId, 2, SECOND_PART);
+
+            List<UploadPartResponseDto> parts = uploadSessionService.getUploadedParts(userId, sessionId).parts();
+            assertEquals(2, parts.size());
+            assertEquals(FIRST_PART.length(), first.size());
+            assertEquals(FIRST_PART.length(), parts.get(0).size());
+            assertEquals(SECOND_PART.length(), parts.get(1).size());
+        }
+
+        @Test
+        void shouldReplacePartWhenItIsSentAgain() {
+            String sessionId = createSession("notes.txt");
+
+            uploadPart(sessionId, 1, FIRST_PART);
+            uploadPart(sessionId, 1, SECOND_PART);
+
+            List<UploadPartResponseDto> parts = uploadSessionService.getUploadedParts(userId, sessionId).parts();
+            assertEquals(1, parts.size());
+            assertEquals(SECOND_PART.length(), parts.get(0).size());
+        }
+
+        @Test
+        void shouldRejectPartAfterPartBelowMinimumSize() {
+            String sessionId = createSession("notes.txt", SECOND_PART.length() * 2L);
+            uploadPart(sessionId, 1, SECOND_PART);
+
+            assertThrows(UploadSessionException.class, () -> uploadPart(sessionId, 2, SECOND_PART));
+            assertEquals(1, uploadSessionService.getUploadedParts(userId, sessionId).parts().size());
+        }
+
+        @Test
+        void shouldRejectPartBelowMinimumSizeBeforeLaterPart() {
+            String sessionId = createSession("notes.txt");
+            uploadPart(sessionId, 2, SECOND_PART);
+
+            assertThrows(UploadSessionException.class, () -> uploadPart(sessionId, 1, SECOND_PART));
+            assertEquals(1, uploadSessionService.getUploadedParts(userId, sessionId).parts().size());
+        }
+
+        @Test
+        void shouldRejectPartNumberOutOfRange() {
+            String sessionId = createSession("notes.txt");
+
+            assertThrows(UploadSessionException.class, () -> uploadPart(sessionId, 0, FIRST_PART));
+            assertThrows(UploadSessionException.class, () -> uploadPart(sessionId, 10001, FIRST_PART));
+            assertThrows(UploadSessionException.class, () -> {
+                uploadSessionService.getPartUploadUrl(userId, sessionId, 0);
+            });
+        }
+
+        @Test
+        void shouldRejectEmptyPart() {
+            String sessionId = createSession("notes.txt");
+
+            assertThrows(UploadSessionException.class, () -> {
+                uploadSessionService.uploadPart(userId, sessionId, 1, new ByteArrayInputStream(new byte[0]), 0);
+            });
+        }
+
+        @Test
+        void shouldRejectPartLargerThanLimit() {
+            String sessionId = createSession("notes.txt");
+
+            assertThrows(UploadSessionException.class, () -> {
+                uploadSessionService.uploadPart(userId, sessionId, 1, new ByteArrayInputStream(new byte[1]),
+                        Long.MAX_VALUE);
+            });
+        }
+
+        @Test
+        void shouldRejectPartShorterThanDeclaredSize() {
+            String sessionId = createSession("notes.txt");
+            byte[] body = FIRST_PART.getBytes(StandardCharsets.UTF_8);
+
+            UploadSessionException exception = assertThrows(UploadSessionException.class, () -> {
+                uploadSessionService.uploadPart(userId, sessionId, 1, new ByteArrayInputStream(body), body.length + 10);
+            });
+
+            assertEquals("Part body is shorter than its declared size", exception.getMessage());
+            assertTrue(uploadSessionService.getUploadedParts(userId, sessionId).parts().isEmpty());
+        }
+    }
+
+    @Nested
+    class CompleteTests {
+
+        @Test
+        void shouldAssembleUploadedFile() throws Exception {
+            String sessionId = createSession("notes.txt", FIRST_PART.length());
+            uploadPart(sessionId, 1, FIRST_PART);
+
+            FileResponseDto file = uploadSessionService.complete(userId, sessionId);
+
+            assertEquals("notes.txt", file.name());
+            assertEquals(FIRST_PART.length(), file.size());
+            assertEquals(FIRST_PART, download("notes.txt"));
+            assertThrows(ResourceNotFoundException.class, () -> uploadSessionService.getUploadedParts(userId, sessionId));
+        }
+
+        @Test
+        void shouldRejectCompletionWithoutParts() {
+            String sessionId = createSession("notes.txt");
+
+            assertThrows(UploadSessionException.class, () -> uploadSessionService.complete(userId, sessionId));
+        }
+
+        @Test
+        void shouldRejectCompletionWhenPartsDoNotMatchDeclaredSize() {
+            String sessionId = createSession("notes.txt");
+            uploadPart(sessionId, 1, FIRST_PART);
+
+            assertThrows(UploadSessionException.class, () -> uploadSessionService.complete(userId, sessionId));
+            assertNotNull(uploadSessionService.getUploadedParts(userId, sessionId));
+        }
+    }
+
+    @Nested
+    class PresignedPartTests {
+
+        @Test
+        void shouldCompleteUploadFromPartsSentThroughPresignedUrls() throws Exception {
+            String sessionId = createSession("notes.txt");
+
+            assertEquals(200, putPresignedPart(sessionId, 1, FIRST_PART));
+            assertEquals(200, putPresignedPart(sessionId, 2, SECOND_PART));
+
+            FileResponseDto file = uploadSessionService.complete(userId, sessionId);
+
+            assertEquals(SESSION_SIZE, file.size());
+            assertEquals(FIRST_PART + SECOND_PART, download("notes.txt"));
+        }
+
+        @Test
+        void shouldRejectPresignedPartsBeyondDeclaredSize() throws Exception {
+            String sessionId = createSession("notes.txt", FIRST_PART.length());
+
+            assertEquals(200, putPresignedPart(sessionId, 1, FIRST_PART + SECOND_PART));
+
+            assertThrows(UploadSessionException.class, () -> uploadSessionService.complete(userId, sessionId));
+            assertFalse(directoryService.isPathExists(userId, "notes.txt"));
+        }
+
+        @Test
+        void shouldRejectPresignedPartBelowMinimumSizeBeforeLastPart() throws Exception {
+            String sessionId = createSession("notes.txt", SECOND_PART.length() * 2L);
+
+            assertEquals(200, putPresignedPart(sessionId, 1, SECOND_PART));
+            assertEquals(200, putPresignedPart(sessionId, 2, SECOND_PART));
+
+            assertThrows(UploadSessionException.class, () -> uploadSessionService.complete(userId, sessionId));
+            assertFalse(directoryService.isPathExists(userId, "notes.txt"));
+        }
+
+        @Test
+        void shouldRejectPresignedPartLargerThanLimit() throws Exception {
+            ReflectionTestUtils.setField(uploadSessionService, "maxPartSize", (long) FIRST_PART.length() - 1);
+            try {
+                String sessionId = createSession("notes.txt", FIRST_PART.length());
+
+                assertEquals(200, putPresignedPart(sessionId, 1, FIRST_PART));
+
+                assertThrows(UploadSessionException.class, () -> uploadSessionService.complete(userId, sessionId));
+            } finally {
+                ReflectionTestUtils.setField(uploadSessionService, "maxPartSize", DEFAULT_MAX_PART_SIZE);
+            }
+        }
+    }
+
+    @Nested
+    class QuotaTests {
+
+        @Test
+        void shouldRejectSessionLargerThanRemainingQuota() {
+            ReflectionTestUtils.setField(storageUsageService, "quotaBytes", SESSION_SIZE - 1);
+            try {
+                assertThrows(QuotaExceededException.class, () -> createSession("notes.txt"));
+            } finally {
+                ReflectionTestUtils.setField(storageUsageService, "quotaBytes", 0L);
+            }
+        }
+
+        @Test
+        void shouldRejectPartsBeyondDeclaredSize() {
+            String sessionId = createSession("notes.txt", FIRST_PART.length());
+            uploadPart(sessionId, 1, FIRST_PART);
+
+            assertThrows(UploadSessionException.class, () -> uploadPart(sessionId, 2, SECOND_PART));
+            assertEquals(1, uploadSessionService.getUploadedParts(userId, sessionId).parts().size());
+        }
+
+        @Test
+        void shouldChargeCompletedFileOnce() {
+            ReflectionTestUtils.setField(storageUsageService, "quotaBytes", SESSION_SIZE);
+            try {
+                String sessionId = createSession("notes.txt", FIRST_PART.length());
+                uploadPart(sessionId, 1, FIRST_PART);
+
+                uploadSessionService.complete(userId, sessionId);
+
+                assertEquals(FIRST_PART.length(), storageUsageService.getUsage(userId).getUsedBytes());
+            } finally {
+                ReflectionTestUtils.setField(storageUsageService, "quotaBytes", 0L);
+            }
+        }
+    }
+
+    @Nested
+    class AbortTests {
+
+        @Test
+        void shouldDiscardSessionAndUploadedParts() {
+            String sessionId = createSession("notes.txt");
+            uploadPart(sessionId, 1, FIRST_PART);
+
+            uploadSessionService.abort(userId, sessionId);
+
+            assertThrows(ResourceNotFoundException.class, () -> uploadSessionService.getUploadedParts(userId, sessionId));
+            assertFalse(directoryService.isPathExists(userId, "notes.txt"));
+        }
+
+        @Test
+        void shouldAbortUploadsLeftBehindByExpiredSessions() {
+            String uploadId = minioClientService.createMultipartUpload(userId, "abandoned.txt", CONTENT_TYPE);
+
+            uploadSessionSweeper.abortUploadsInitiatedBefore(Instant.now().plusSeconds(60));
+
+            List<String> uploadIds = minioClientService.listMultipartUploads().stream()
+                    .map(Upload::uploadId)
+                    .toList();
+            assertFalse(uploadIds.contains(uploadId));
+        }
+
+        @Test
+        void shouldKeepUploadsOfLiveSessions() {
+            String uploadId = minioClientService.createMultipartUpload(userId, "live.txt", CONTENT_TYPE);
+
+            uploadSessionSweeper.abortUploadsInitiatedBefore(Instant.now().minusSeconds(3600));
+
+            List<String> uploadIds = minioClientService.listMultipartUploads().stream()
+                    .map(Upload::uploadId)
+                    .toList();
+            assertTrue(uploadIds.contains(uploadId));
+            minioClientService.abortMultipartUpload(userId, "live.txt", uploadId);
+        }
+    }
+
+    @Nested
+    class OwnershipTests {
+
+        @Test
+        void shouldHideSessionFromOtherUsers() {
+            String sessionId = createSession("notes.txt");
+            Long secondUserId = createSecondTestUserAndGetId();
+            ByteArrayInputStream body = new ByteArrayInputStream(FIRST_PART.getBytes(StandardCharsets.UTF_8));
+
+            assertThrows(ResourceNotFoundException.class, () -> {
+                uploadSessionService.uploadPart(secondUserId, sessionId, 1, body, FIRST_PART.length());
+            });
+            assertThrows(ResourceNotFoundException.class, () -> uploadSessionService.getUploadedParts(secondUserId, sessionId));
+            assertThrows(ResourceNotFoundException.class, () -> uploadSessionService.complete(secondUserId, sessionId));
+            assertThrows(ResourceNotFoundException.class, () -> uploadSessionService.abort(secondUserId, sessionId));
+            assertNotNull(uploadSessionService.getUploadedParts(userId, sessionId));
+        }
+    }
+
+    private String createSession(String name) {
+        return createSession(name, SESSION_SIZE);
+    }
+
+    private String createSession(String name, long size) {
+        return uploadSessionService.create(userId, "", name, CONTENT_TYPE, size).sessionId();
+    }
+
+    private UploadPartResponseDto uploadPart(String sessionId, int partNumber, String content) {
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        return uploadSessionService.uploadPart(userId, sessionId, partNumber, new ByteArrayInputStream(body), body.length);
+    }
+
+    private int putPresignedPart(String sessionId, int partNumber, String content) throws Exception {
+        URI partUrl = URI.create(uploadSessionService.getPartUploadUrl(userId, sessionId, partNumber).url());
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(partUrl)
+                        .PUT(HttpRequest.BodyPublishers.ofString(content))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()
+        );
+        return response.statusCode();
+    }
+
+    private String download(String path) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        resourceService.downloadFile(userId, path).writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private Long createSecondTestUserAndGetId() {
+        UserRegistrationRequestDto user = new UserRegistrationRequestDto(
+                "TestUser2",
+                "password"
+        );
+        userService.createUserWithRootDirectory(user);
+        return userRepository.findIdByUsername(user.getUsername());
+    }
+
+}
@@ -5,9 +5,13 @@ import jakarta.validation.Validator;
 import org.example.cloudstorage.dto.userDto.UserRegistrationRequestDto;
 import org.example.cloudstorage.dto.userDto.UserResponseDto;
 import org.example.cloudstorage.exception.UserExistsException;
+import org.example.cloudstorage.security.UserPrincipal;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Set;
@@ -19,6 +23,9 @@ public class UserServiceIT extends AbstractIntegrationTest {
     @Autowired
     private Validator validator;
 
+    @Autowired
+    private RedisSerializer<Object> springSessionDefaultRedisSerializer;
+
     private final static int TOO_LONG_PASSWORD_SIZE = 21;
 
     @Test
@@ -99,4 +106,27 @@ public class UserServiceIT extends AbstractIntegrationTest {
         assertNotEquals(user.getPassword(), result.getPassword());
     }
 
+    @Test
+    void shouldCarryUserIdInLoadedPrincipal() {
+        UserDetails result = userService.loadUserByUsername("TestUser");
+
+        UserPrincipal principal = assertInstanceOf(UserPrincipal.class, result);
+        assertEquals(userId, principal.getId());
+    }
+
+    @Test
+    void shouldKeepUserIdWhenSessionContextIsSerialized() {
+        UserDetails principal = userService.loadUserByUsername("TestUser");
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities());
+        authentication.eraseCredentials();
+
+        byte[] serialized = springSessionDefaultRedisSerializer.serialize(new SecurityContextImpl(authentication));
+        SecurityContextImpl context = (SecurityContextImpl) springSessionDefaultRedisSerializer.deserialize(serialized);
+
+        UserPrincipal restored = assertInstanceOf(UserPrincipal.class, context.getAuthentication().getPrincipal());
+        assertEquals(userId, restored.getId());
+        assertEquals("TestUser", restored.getUsername());
+    }
+
 }
@@ -0,0 +1,186 @@
+package org.example.cloudstorage.load;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudstorage.AbstractIntegrationTest;
+import org.example.cloudstorage.dto.userDto.UserRegistrationRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class AbstractDownloadLoadIT extends AbstractIntegrationTest {
+
+    protected static final int CONCURRENT_CLIENTS = 256;
+    protected static final int FILE_SIZE = 4 * 1024 * 1024;
+    protected static final int CHUNK_SIZE = 64 * 1024;
+    protected static final Duration CHUNK_DELAY = Duration.ofMillis(20);
+
+    private static final String USER_PASSWORD = "password";
+    private static final String FILE_NAME = "payload.bin";
+    private static final String CLIENT_THREAD_PREFIX = "load-client-";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newThreadPerTaskExecutor(clientThreads()))
+            .build();
+
+    private String username;
+    private String sessionCookie;
+
+    @Override
+    protected Long createUserAndGetId() {
+        username = "load" + UUID.randomUUID().toString().substring(0, 8);
+        userService.createUserWithRootDirectory(new UserRegistrationRequestDto(username, USER_PASSWORD));
+        return userRepository.findIdByUsername(username);
+    }
+
+    @BeforeEach
+    void uploadPayload() throws Exception {
+        MultipartFile payload = new MockMultipartFile("object", FILE_NAME, "application/octet-stream", new byte[FILE_SIZE]);
+        resourceService.upload(userId, "", new MultipartFile[]{payload});
+
+        sessionCookie = signIn(username);
+    }
+
+    @Test
+    void shouldServeSlowConcurrentDownloads() throws Exception {
+        List<DownloadResult> results = new ArrayList<>(CONCURRENT_CLIENTS);
+        Queue<RecordedEvent> pinnedEvents = new ConcurrentLinkedQueue<>();
+        long startedAt;
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withStackTrace();
+            recording.onEvent(PINNED_EVENT, event -> {
+                if (!isClientThread(event)) {
+                    pinnedEvents.add(event);
+                }
+            });
+            recording.startAsync();
+
+            startedAt = System.nanoTime();
+            try (ExecutorService clients = Executors.newThreadPerTaskExecutor(clientThreads())) {
+                List<Future<DownloadResult>> downloads = new ArrayList<>(CONCURRENT_CLIENTS);
+                for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+                    downloads.add(clients.submit(() -> slowDownload(startedAt)));
+                }
+                for (Future<DownloadResult> download : downloads) {
+                    results.add(download.get());
+                }
+            }
+            recording.stop();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        List<Duration> firstBytes = results.stream().map(DownloadResult::firstByte).sorted().toList();
+        Duration firstFinished = results.stream().map(DownloadResult::finished).min(Duration::compareTo).orElseThrow();
+        int startedConcurrently = (int) firstBytes.stream().filter(firstByte -> firstByte.compareTo(firstFinished) < 0).count();
+        log.info("{}: {} slow downloads of {} bytes in {} ms, {} streaming at once, first byte p50 {} ms, p99 {} ms, max {} ms",
+                getClass().getSimpleName(), CONCURRENT_CLIENTS, FILE_SIZE, elapsed.toMillis(), startedConcurrently,
+                percentile(firstBytes, 50).toMillis(), percentile(firstBytes, 99).toMillis(),
+                firstBytes.get(firstBytes.size() - 1).toMillis());
+
+        results.forEach(result -> assertEquals(FILE_SIZE, result.bytes()));
+        assertTrue(pinnedEvents.isEmpty(), () -> "Server threads were pinned to their carrier:\n" + pinnedEvents);
+        assertStreamingCapacity(startedConcurrently);
+    }
+
+    /**
+     * Checks how many downloads had started streaming before the first slow client finished.
+     */
+    protected abstract void assertStreamingCapacity(int startedConcurrently);
+
+    private DownloadResult slowDownload(long startedAt) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl() + "/api/resource/download?path=" + FILE_NAME))
+                .header(HttpHeaders.COOKIE, sessionCookie)
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+
+        Duration firstByte = null;
+        long total = 0;
+        byte[] chunk = new byte[CHUNK_SIZE];
+        try (InputStream body = response.body()) {
+            int read;
+            while ((read = body.readNBytes(chunk, 0, CHUNK_SIZE)) > 0) {
+                if (firstByte == null) {
+                    firstByte = Duration.ofNanos(System.nanoTime() - startedAt);
+                }
+                total += read;
+                Thread.sleep(CHUNK_DELAY);
+            }
+        }
+        return new DownloadResult(firstByte, Duration.ofNanos(System.nanoTime() - startedAt), total);
+    }
+
+    private String signIn(String username) throws IOException, InterruptedException {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + USER_PASSWORD + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl() + "/api/auth/sign-in"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, response.statusCode());
+
+        String setCookie = response.headers().firstValue(HttpHeaders.SET_COOKIE).orElseThrow();
+        return setCookie.substring(0, setCookie.indexOf(';'));
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    private static Duration percentile(List<Duration> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+
+    private static boolean isClientThread(RecordedEvent event) {
+        return event.getThread() != null && event.getThread().getJavaName() != null
+                && event.getThread().getJavaName().startsWith(CLIENT_THREAD_PREFIX);
+    }
+
+    private static ThreadFactory clientThreads() {
+        return Thread.ofVirtual().name(CLIENT_THREAD_PREFIX, 0).factory();
+    }
+
+    private record DownloadResult(Duration firstByte, Duration finished, long bytes) {
+    }
+
+}
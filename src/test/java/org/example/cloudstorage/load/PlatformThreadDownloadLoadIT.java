@@ -0,0 +1,23 @@
+package org.example.cloudstorage.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=false",
+        "storage.streaming.max-concurrency=" + PlatformThreadDownloadLoadIT.MAX_STREAMING_THREADS
+})
+public class PlatformThreadDownloadLoadIT extends AbstractDownloadLoadIT {
+
+    static final int MAX_STREAMING_THREADS = 64;
+
+    @Override
+    protected void assertStreamingCapacity(int startedConcurrently) {
+        assertTrue(startedConcurrently <= MAX_STREAMING_THREADS,
+                "Platform mode should stream at most " + MAX_STREAMING_THREADS + " bodies at once, streamed "
+                        + startedConcurrently);
+        assertTrue(startedConcurrently < CONCURRENT_CLIENTS,
+                "Platform mode should queue clients beyond its thread limit, all " + CONCURRENT_CLIENTS + " started");
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.cloudstorage.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "storage.streaming.max-concurrency=" + PlatformThreadDownloadLoadIT.MAX_STREAMING_THREADS
+})
+public class VirtualThreadDownloadLoadIT extends AbstractDownloadLoadIT {
+
+    @Override
+    protected void assertStreamingCapacity(int startedConcurrently) {
+        assertEquals(CONCURRENT_CLIENTS, startedConcurrently,
+                "Virtual mode should stream every client at once, beyond the platform limit of "
+                        + PlatformThreadDownloadLoadIT.MAX_STREAMING_THREADS);
+    }
+}